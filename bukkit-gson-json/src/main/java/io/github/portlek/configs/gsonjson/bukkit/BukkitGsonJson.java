@@ -26,22 +26,11 @@
 package io.github.portlek.configs.gsonjson.bukkit;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import io.github.portlek.transformer.TransformResolver;
-import io.github.portlek.transformer.declarations.FieldDeclaration;
+import io.github.portlek.configs.gsonjson.GsonJson;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
-import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
-import io.github.portlek.transformer.postprocessor.PostProcessor;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -49,25 +38,41 @@ import org.jetbrains.annotations.Nullable;
 /**
  * a class that represents json file configuration.
  */
-@RequiredArgsConstructor
-public final class BukkitGsonJson extends TransformResolver {
+public final class BukkitGsonJson extends GsonJson {
 
   /**
-   * the gson.
+   * ctor.
+   *
+   * @param gson the gson.
+   * @param compactNumericArrays the compact numeric arrays.
    */
-  @NotNull
-  private final Gson gson;
+  public BukkitGsonJson(@NotNull final Gson gson, final boolean compactNumericArrays) {
+    super(gson, compactNumericArrays);
+  }
 
   /**
-   * the cache map.
+   * ctor.
+   *
+   * @param gson the gson.
    */
-  private Map<String, Object> map = new LinkedHashMap<>();
+  public BukkitGsonJson(@NotNull final Gson gson) {
+    super(gson);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param compactNumericArrays the compact numeric arrays.
+   */
+  public BukkitGsonJson(final boolean compactNumericArrays) {
+    super(compactNumericArrays);
+  }
 
   /**
    * ctor.
    */
   public BukkitGsonJson() {
-    this(new GsonBuilder().setPrettyPrinting().create());
+    super();
   }
 
   @Nullable
@@ -82,38 +87,6 @@ public final class BukkitGsonJson extends TransformResolver {
     return super.deserialize(object, genericSource, targetClass, genericTarget, defaultValue);
   }
 
-  @NotNull
-  @Override
-  public List<String> getAllKeys() {
-    return List.copyOf(this.map.keySet());
-  }
-
-  @NotNull
-  @Override
-  public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.map.get(path));
-  }
-
-  @Override
-  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    //noinspection unchecked
-    this.map = this.gson.fromJson(PostProcessor.of(inputStream).getContext(), Map.class);
-    if (this.map == null) {
-      this.map = new LinkedHashMap<>();
-    }
-  }
-
-  @Override
-  public boolean pathExists(@NotNull final String path) {
-    return this.map.containsKey(path);
-  }
-
-  @Override
-  public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
-                          @Nullable final FieldDeclaration field) {
-    this.map.remove(path);
-  }
-
   @Nullable
   @Override
   public Object serialize(@Nullable final Object value, @Nullable final GenericDeclaration genericType,
@@ -124,17 +97,6 @@ public final class BukkitGsonJson extends TransformResolver {
     return super.serialize(value, genericType, conservative);
   }
 
-  @Override
-  public void setValue(@NotNull final String path, @Nullable final Object value,
-                       @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
-    this.map.put(path, this.serialize(value, genericType, true));
-  }
-
-  @Override
-  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    this.gson.toJson(this.map, new OutputStreamWriter(outputStream));
-  }
-
   /**
    * gets the section value with primitive objects.
    *
@@ -30,7 +30,6 @@ import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
 import java.util.Map;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -38,9 +37,24 @@ import org.jetbrains.annotations.Nullable;
 /**
  * a class that represents json file configuration.
  */
-@RequiredArgsConstructor
 public final class BukkitJacksonJson extends JacksonJson {
 
+  /**
+   * ctor.
+   *
+   * @param compactNumericArrays the compact numeric arrays.
+   */
+  public BukkitJacksonJson(final boolean compactNumericArrays) {
+    super(compactNumericArrays);
+  }
+
+  /**
+   * ctor.
+   */
+  public BukkitJacksonJson() {
+    super();
+  }
+
   @Nullable
   @Override
   public <T> T deserialize(@Nullable final Object object, @Nullable final GenericDeclaration genericSource,
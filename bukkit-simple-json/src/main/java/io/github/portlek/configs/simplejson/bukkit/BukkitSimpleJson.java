@@ -26,6 +26,7 @@
 package io.github.portlek.configs.simplejson.bukkit;
 
 import io.github.portlek.configs.simplejson.SimpleJson;
+import io.github.portlek.configs.simplejson.SimpleJsonReader;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
 import java.util.Map;
@@ -40,6 +41,26 @@ import org.json.simple.parser.JSONParser;
  */
 public final class BukkitSimpleJson extends SimpleJson {
 
+  /**
+   * ctor.
+   *
+   * @param parser the parser.
+   * @param prettyPrinting the pretty printing.
+   */
+  public BukkitSimpleJson(final @NotNull JSONParser parser, final boolean prettyPrinting) {
+    super(parser, prettyPrinting);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param reader the reader.
+   * @param prettyPrinting the pretty printing.
+   */
+  public BukkitSimpleJson(final @NotNull SimpleJsonReader reader, final boolean prettyPrinting) {
+    super(reader, prettyPrinting);
+  }
+
   /**
    * ctor.
    *
@@ -49,6 +70,24 @@ public final class BukkitSimpleJson extends SimpleJson {
     super(parser);
   }
 
+  /**
+   * ctor.
+   *
+   * @param reader the reader.
+   */
+  public BukkitSimpleJson(final @NotNull SimpleJsonReader reader) {
+    super(reader);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param prettyPrinting the pretty printing.
+   */
+  public BukkitSimpleJson(final boolean prettyPrinting) {
+    super(prettyPrinting);
+  }
+
   /**
    * ctor.
    */
@@ -25,24 +25,46 @@
 
 package io.github.portlek.configs.snakeyaml.bukkit;
 
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.LineProcessingWriter;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.TransformedObject;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
-import io.github.portlek.transformer.postprocessor.LineInfo;
 import io.github.portlek.transformer.postprocessor.PostProcessor;
 import io.github.portlek.transformer.postprocessor.SectionSeparator;
-import io.github.portlek.transformer.postprocessor.walkers.YamlSectionWalker;
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.MemorySection;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -53,7 +75,8 @@ import org.jetbrains.annotations.Nullable;
  * a class that represents yaml file configuration.
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class BukkitSnakeyaml extends TransformResolver {
+public final class BukkitSnakeyaml extends TransformResolver
+  implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
    * the comment prefix.
@@ -61,18 +84,76 @@ public final class BukkitSnakeyaml extends TransformResolver {
   @NotNull
   private final String commentPrefix;
 
+  /**
+   * the changed top-level keys since the last load or write.
+   */
+  private final Set<String> changedKeys = new HashSet<>();
+
   /**
    * the config.
    */
   @NotNull
   private final YamlConfiguration config;
 
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the section separator.
    */
   @NotNull
   private final String sectionSeparator;
 
+  /**
+   * the event loading.
+   * <p>
+   * if it's enabled, loads read the parse events straight into maps and the config sections are created only when
+   * the values are changed or written.
+   */
+  @Getter
+  @Setter
+  private boolean eventLoading;
+
+  /**
+   * the values read from the parse events that are not converted into the config yet.
+   */
+  @Nullable
+  private Map<String, Object> eventValues;
+
+  /**
+   * the line index of the last loaded or written document.
+   */
+  @Nullable
+  private YamlLineIndex lineIndex;
+
+  /**
+   * the patch writes.
+   * <p>
+   * if it's enabled, writes render only the changed top-level keys and pass the other lines, comments included,
+   * through as they are.
+   */
+  @Getter
+  @Setter
+  private boolean patchWrites;
+
   /**
    * ctor.
    *
@@ -120,6 +201,30 @@ public final class BukkitSnakeyaml extends TransformResolver {
     this(new YamlConfiguration());
   }
 
+  /**
+   * gets the value at the path of the event values.
+   *
+   * @param values the values to get.
+   * @param path the path to get.
+   *
+   * @return value at the path.
+   */
+  @Nullable
+  private static Object eventValue(@NotNull final Map<String, Object> values, @NotNull final String path) {
+    final var value = values.get(path);
+    if (value != null || path.indexOf('.') == -1) {
+      return value;
+    }
+    Object current = values;
+    for (final var key : path.split("\\.")) {
+      if (!(current instanceof Map<?, ?>)) {
+        return null;
+      }
+      current = ((Map<?, ?>) current).get(key);
+    }
+    return current;
+  }
+
   @Nullable
   @Override
   public <T> T deserialize(@Nullable final Object object, @Nullable final GenericDeclaration genericSource,
@@ -136,30 +241,69 @@ public final class BukkitSnakeyaml extends TransformResolver {
   @NotNull
   @Override
   public List<String> getAllKeys() {
+    if (this.eventValues != null) {
+      return List.copyOf(this.eventValues.keySet());
+    }
     return List.copyOf(this.config.getKeys(false));
   }
 
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.config.get(path));
+    final var started = this.probe.start();
+    final var value = this.eventValues != null
+      ? Optional.ofNullable(BukkitSnakeyaml.eventValue(this.eventValues, path))
+      : Optional.ofNullable(this.config.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
   public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
     throws Exception {
-    this.config.loadFromString(PostProcessor.of(inputStream).getContext());
+    this.probe.load(inputStream, this::loadValues,
+      () -> this.getAllKeys().size(), () -> InstrumentationProbe.countNodes(this.currentValues()));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var sections = this.sections();
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, sections::contains);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
   public boolean pathExists(@NotNull final String path) {
-    return this.config.getKeys(false).contains(path);
+    if (this.eventValues != null) {
+      return this.eventValues.containsKey(path);
+    }
+    return this.config.contains(path);
   }
 
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
-    this.config.set(path, null);
+    final var started = this.probe.start();
+    this.markChanged(path, null);
+    this.sections().set(path, null);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.eventValues = null;
+    this.config.getKeys(false).forEach(key -> this.config.set(key, null));
+    this.changedKeys.clear();
+    this.lineIndex = null;
+    this.deserializationMemo.invalidateAll();
   }
 
   @Nullable
@@ -175,58 +319,87 @@ public final class BukkitSnakeyaml extends TransformResolver {
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
-    this.config.set(path, this.serialize(value, genericType, true));
+    final var started = this.probe.start();
+    final var serialized = this.serialize(value, genericType, true);
+    this.markChanged(path, serialized);
+    this.sections().set(path, serialized);
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
   }
 
   @Override
-  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    final var contents = this.config.saveToString();
-    final var processor = PostProcessor.of(contents)
-      .removeLines(line -> line.startsWith(this.commentPrefix.trim()))
-      .updateLinesPaths(new YamlSectionWalker() {
-        @NotNull
-        @Override
-        public String update(@NotNull final String line, @NotNull final LineInfo lineInfo,
-                             @NotNull final List<LineInfo> path) {
-          var currentDeclaration = declaration;
-          for (int i = 0; i < path.size() - 1; i++) {
-            final var pathElement = path.get(i);
-            final var field = currentDeclaration.getNonMigratedFields().get(pathElement.getName());
-            if (field == null) {
-              return line;
-            }
-            final var fieldType = field.getGenericDeclaration();
-            final var type = fieldType.getType();
-            if (type == null) {
-              continue;
-            }
-            if (!TransformedObject.class.isAssignableFrom(type)) {
-              return line;
-            }
-            currentDeclaration = TransformedObjectDeclaration.of(type);
-          }
-          final var lineDeclaration = currentDeclaration.getNonMigratedFields().get(lineInfo.getName());
-          if (lineDeclaration == null) {
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
+  }
+
+  @Override
+  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.write(outputStream, output -> this.writeValues(output, declaration));
+  }
+
+  /**
+   * creates a writer that removes the old comments and adds the comments of the declaration.
+   *
+   * @param writer the writer to create.
+   * @param declaration the declaration to create.
+   *
+   * @return a line processing writer.
+   */
+  @NotNull
+  private LineProcessingWriter commentWriter(@NotNull final Writer writer,
+                                             @NotNull final TransformedObjectDeclaration declaration) {
+    return new LineProcessingWriter(writer)
+      .removeLinesStartingWith(this.commentPrefix.trim())
+      .updateSectionLines((line, name, indent, path) -> {
+        var currentDeclaration = declaration;
+        for (int i = 0; i < path.size() - 1; i++) {
+          final var field = currentDeclaration.getNonMigratedFields().get(path.get(i));
+          if (field == null) {
             return line;
           }
-          final var fieldComment = lineDeclaration.getComment();
-          if (fieldComment == null) {
+          final var fieldType = field.getGenericDeclaration();
+          final var type = fieldType.getType();
+          if (type == null) {
+            continue;
+          }
+          if (!TransformedObject.class.isAssignableFrom(type)) {
             return line;
           }
-          return PostProcessor.addIndent(
-            PostProcessor.createComment(BukkitSnakeyaml.this.commentPrefix, fieldComment.value()),
-            lineInfo.getIndent()) + line;
+          currentDeclaration = TransformedObjectDeclaration.of(type);
+        }
+        final var lineDeclaration = currentDeclaration.getNonMigratedFields().get(name);
+        if (lineDeclaration == null) {
+          return line;
         }
+        final var fieldComment = lineDeclaration.getComment();
+        if (fieldComment == null) {
+          return line;
+        }
+        return PostProcessor.addIndent(
+          PostProcessor.createComment(this.commentPrefix, fieldComment.value()),
+          indent) + line;
       });
-    final var header = declaration.getHeader();
-    if (header != null) {
-      processor.prependContextComment(this.commentPrefix, this.sectionSeparator, header.value());
+  }
+
+  /**
+   * gets the current values as primitive objects.
+   *
+   * @return current values.
+   */
+  @NotNull
+  private Map<String, Object> currentValues() {
+    if (this.eventValues != null) {
+      return this.eventValues;
     }
-    processor.write(outputStream);
+    return this.getMapValues(this.config, false);
   }
 
   /**
-   * gets the section value with primitive objects.
+   * gets the section value with primitive objects in the order of the section.
    *
    * @param section the section to get.
    * @param deep the deep to get.
@@ -244,6 +417,184 @@ public final class BukkitSnakeyaml extends TransformResolver {
         }
         return Map.entry(key, value);
       })
-      .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+      .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> second,
+        LinkedHashMap::new));
+  }
+
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   *
+   * @throws Exception if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream) throws Exception {
+    final var contents = ReadBuffers.readString(inputStream);
+    final var before = this.changeNotifier.isObserving()
+      ? this.currentValues()
+      : null;
+    if (this.eventLoading) {
+      this.eventValues = YamlEventReader.read(contents);
+    } else {
+      this.eventValues = null;
+      this.config.loadFromString(contents);
+    }
+    this.changedKeys.clear();
+    this.lineIndex = this.patchWrites
+      ? YamlLineIndex.of(contents, this.commentPrefix)
+      : null;
+    this.deserializationMemo.invalidateAll();
+    if (before != null) {
+      this.changeNotifier.onReload(before, this.currentValues());
+    } else {
+      this.changeNotifier.onLoad();
+    }
+  }
+
+  /**
+   * marks the top-level key of the path as changed if the value is different from the current one.
+   *
+   * @param path the path to mark.
+   * @param value the value to mark.
+   */
+  private void markChanged(@NotNull final String path, @Nullable final Object value) {
+    if (this.lineIndex == null) {
+      return;
+    }
+    final var separator = path.indexOf('.');
+    if (separator != -1) {
+      this.changedKeys.add(path.substring(0, separator));
+      return;
+    }
+    final var current = this.sections().get(path);
+    final var currentValue = current instanceof ConfigurationSection
+      ? this.getMapValues((ConfigurationSection) current, false)
+      : current;
+    if (!Objects.equals(currentValue, value)) {
+      this.changedKeys.add(path);
+    }
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
+    }
+    serialized.forEach((path, value) -> {
+      this.markChanged(path, value);
+      this.sections().set(path, value);
+    });
+    this.deserializationMemo.invalidateAll();
+  }
+
+  /**
+   * renders the top-level key on its own.
+   *
+   * @param key the key to render.
+   * @param declaration the declaration to add comments, {@code null} to render without comments.
+   *
+   * @return rendered lines or {@code null} if the key does not exist.
+   *
+   * @throws IOException if something goes wrong when rendering.
+   */
+  @Nullable
+  private List<String> renderKey(@NotNull final String key, @Nullable final TransformedObjectDeclaration declaration)
+    throws IOException {
+    final var value = this.sections().get(key);
+    if (value == null) {
+      return null;
+    }
+    final var single = new YamlConfiguration();
+    single.set(key, value instanceof ConfigurationSection
+      ? this.getMapValues((ConfigurationSection) value, false)
+      : value);
+    var rendered = single.saveToString();
+    if (declaration != null) {
+      final var commented = new StringWriter();
+      final var writer = this.commentWriter(commented, declaration);
+      writer.write(rendered);
+      writer.finish();
+      rendered = commented.toString();
+    }
+    final var lines = new ArrayList<>(Arrays.asList(rendered.split("\n", -1)));
+    if (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+      lines.remove(lines.size() - 1);
+    }
+    return lines;
+  }
+
+  /**
+   * converts the event values into the config sections if they are not converted yet.
+   *
+   * @return the config.
+   */
+  @NotNull
+  private YamlConfiguration sections() {
+    final var values = this.eventValues;
+    if (values == null) {
+      return this.config;
+    }
+    this.eventValues = null;
+    this.config.getKeys(false).forEach(key -> this.config.set(key, null));
+    values.forEach((key, value) -> {
+      if (value instanceof Map<?, ?>) {
+        this.config.createSection(key, (Map<?, ?>) value);
+      } else {
+        this.config.set(key, value);
+      }
+    });
+    return this.config;
+  }
+
+  /**
+   * writes the whole document with the comments of the declaration.
+   *
+   * @param writer the writer to write.
+   * @param declaration the declaration to write.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void writeDocument(@NotNull final Writer writer, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    final var processor = this.commentWriter(writer, declaration);
+    final var header = declaration.getHeader();
+    if (header != null) {
+      processor.writeRaw(PostProcessor.createComment(this.commentPrefix, header.value()) + this.sectionSeparator);
+    }
+    processor.write(this.sections().saveToString());
+    processor.finish();
+  }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   * @param declaration the declaration to write.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream,
+                           @NotNull final TransformedObjectDeclaration declaration) throws IOException {
+    final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    if (!this.patchWrites) {
+      this.writeDocument(writer, declaration);
+      return;
+    }
+    if (this.lineIndex == null) {
+      final var document = new StringWriter();
+      this.writeDocument(document, declaration);
+      this.lineIndex = YamlLineIndex.of(document.toString(), this.commentPrefix);
+      writer.write(document.toString());
+    } else {
+      this.lineIndex = this.lineIndex.patch(writer, this.changedKeys,
+        key -> this.renderKey(key, null),
+        key -> this.renderKey(key, declaration));
+    }
+    writer.flush();
+    this.changedKeys.clear();
   }
 }
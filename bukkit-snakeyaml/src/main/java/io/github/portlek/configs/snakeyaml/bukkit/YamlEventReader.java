@@ -0,0 +1,343 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.snakeyaml.bukkit;
+
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * a class that reads yaml parse events straight into order-preserving maps and lists.
+ * <p>
+ * scalars are resolved as yaml 1.1 nulls, booleans, integers and floats, everything else stays a string. tags of
+ * bukkit's configuration serializable objects are not constructed, their maps are kept as they are.
+ * <p>
+ * merge keys ({@code <<}) are merged like snakeyaml's constructor does, the merged keys come first and the keys of the
+ * map itself override them. aliases of maps and lists are deep copies, so changing one place does not change the
+ * others.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class YamlEventReader {
+
+  /**
+   * the resolver.
+   */
+  private static final Resolver RESOLVER = new Resolver();
+
+  /**
+   * the yaml instances of the threads.
+   */
+  private static final ThreadLocal<Yaml> YAML = ThreadLocal.withInitial(Yaml::new);
+
+  /**
+   * reads the document.
+   *
+   * @param contents the contents to read.
+   *
+   * @return the values of the document.
+   *
+   * @throws InvalidConfigurationException if the document is not a map.
+   */
+  @NotNull
+  static Map<String, Object> read(@NotNull final String contents) throws InvalidConfigurationException {
+    final var events = YamlEventReader.YAML.get().parse(new StringReader(contents)).iterator();
+    final var anchors = new HashMap<String, Object>();
+    var event = events.next();
+    while (!(event instanceof StreamEndEvent)) {
+      if (event instanceof DocumentStartEvent) {
+        event = events.next();
+        final var value = YamlEventReader.readValue(event, events, anchors);
+        if (value == null) {
+          return new LinkedHashMap<>();
+        }
+        if (!(value instanceof Map<?, ?>)) {
+          throw new InvalidConfigurationException("Top level is not a Map.");
+        }
+        //noinspection unchecked
+        return (Map<String, Object>) value;
+      }
+      event = events.next();
+    }
+    return new LinkedHashMap<>();
+  }
+
+  /**
+   * copies the maps and the lists of the value deeply.
+   *
+   * @param value the value to copy.
+   *
+   * @return copied value.
+   */
+  @Nullable
+  private static Object copy(@Nullable final Object value) {
+    if (value instanceof Map<?, ?>) {
+      final var map = (Map<?, ?>) value;
+      final var copy = new LinkedHashMap<String, Object>(map.size() * 4 / 3 + 1);
+      map.forEach((key, entryValue) -> copy.put(String.valueOf(key), YamlEventReader.copy(entryValue)));
+      return copy;
+    }
+    if (value instanceof List<?>) {
+      final var list = (List<?>) value;
+      final var copy = new ArrayList<>(list.size());
+      list.forEach(element -> copy.add(YamlEventReader.copy(element)));
+      return copy;
+    }
+    return value;
+  }
+
+  /**
+   * checks if the event is a merge key.
+   *
+   * @param event the event to check.
+   *
+   * @return {@code true} if the event is a {@code <<} key.
+   */
+  private static boolean isMergeKey(@NotNull final Event event) {
+    if (!(event instanceof ScalarEvent)) {
+      return false;
+    }
+    final var scalar = (ScalarEvent) event;
+    if (scalar.getImplicit().canOmitTagInPlainScalar()) {
+      return Tag.MERGE.equals(YamlEventReader.RESOLVER.resolve(NodeId.scalar, scalar.getValue(), true));
+    }
+    return Tag.MERGE.getValue().equals(scalar.getTag());
+  }
+
+  /**
+   * collects the entries of the merge value, the earlier maps override the later ones.
+   *
+   * @param value the value to merge.
+   * @param merged the merged to collect.
+   *
+   * @throws InvalidConfigurationException if the value is not a map or a list of maps.
+   */
+  private static void merge(@Nullable final Object value, @NotNull final Map<String, Object> merged)
+    throws InvalidConfigurationException {
+    if (value instanceof Map<?, ?>) {
+      ((Map<?, ?>) value).forEach((key, entryValue) -> merged.putIfAbsent(String.valueOf(key), entryValue));
+      return;
+    }
+    if (!(value instanceof List<?>)) {
+      throw new InvalidConfigurationException("Merge keys expect a map or a list of maps.");
+    }
+    for (final var element : (List<?>) value) {
+      if (!(element instanceof Map<?, ?>)) {
+        throw new InvalidConfigurationException("Merge keys expect a map or a list of maps.");
+      }
+      YamlEventReader.merge(element, merged);
+    }
+  }
+
+  /**
+   * parses the integer as the smallest number type that holds it.
+   *
+   * @param value the value to parse.
+   *
+   * @return parsed number or the value itself if it's not a plain integer.
+   */
+  @NotNull
+  private static Object parseInteger(@NotNull final String value) {
+    var text = value.replace("_", "");
+    var sign = "";
+    if (text.startsWith("-") || text.startsWith("+")) {
+      sign = text.substring(0, 1);
+      text = text.substring(1);
+    }
+    final int radix;
+    if (text.startsWith("0x")) {
+      radix = 16;
+      text = text.substring(2);
+    } else if (text.startsWith("0b")) {
+      radix = 2;
+      text = text.substring(2);
+    } else if (text.length() > 1 && text.startsWith("0")) {
+      radix = 8;
+      text = text.substring(1);
+    } else if (text.indexOf(':') != -1) {
+      return value;
+    } else {
+      radix = 10;
+    }
+    final var number = new BigInteger(sign + text, radix);
+    if (number.bitLength() < Integer.SIZE) {
+      return number.intValue();
+    }
+    if (number.bitLength() < Long.SIZE) {
+      return number.longValue();
+    }
+    return number;
+  }
+
+  /**
+   * reads the value that starts with the event.
+   *
+   * @param event the event to read.
+   * @param events the events to read.
+   * @param anchors the anchors to read.
+   *
+   * @return read value.
+   *
+   * @throws InvalidConfigurationException if an alias refers to an unknown anchor.
+   */
+  @Nullable
+  private static Object readValue(@NotNull final Event event, @NotNull final Iterator<Event> events,
+                                  @NotNull final Map<String, Object> anchors) throws InvalidConfigurationException {
+    if (event instanceof AliasEvent) {
+      final var anchor = ((AliasEvent) event).getAnchor();
+      if (!anchors.containsKey(anchor)) {
+        throw new InvalidConfigurationException(String.format("Unknown anchor %s", anchor));
+      }
+      return YamlEventReader.copy(anchors.get(anchor));
+    }
+    final Object value;
+    if (event instanceof ScalarEvent) {
+      value = YamlEventReader.resolveScalar((ScalarEvent) event);
+    } else if (event instanceof SequenceStartEvent) {
+      final var list = new ArrayList<>();
+      YamlEventReader.storeAnchor(event, list, anchors);
+      var next = events.next();
+      while (!(next instanceof SequenceEndEvent)) {
+        list.add(YamlEventReader.readValue(next, events, anchors));
+        next = events.next();
+      }
+      return list;
+    } else if (event instanceof MappingStartEvent) {
+      final var map = new LinkedHashMap<String, Object>();
+      YamlEventReader.storeAnchor(event, map, anchors);
+      Map<String, Object> merged = null;
+      var next = events.next();
+      while (!(next instanceof MappingEndEvent)) {
+        if (YamlEventReader.isMergeKey(next)) {
+          if (merged == null) {
+            merged = new LinkedHashMap<>();
+          }
+          YamlEventReader.merge(YamlEventReader.readValue(events.next(), events, anchors), merged);
+        } else {
+          final var key = YamlEventReader.readValue(next, events, anchors);
+          map.put(String.valueOf(key), YamlEventReader.readValue(events.next(), events, anchors));
+        }
+        next = events.next();
+      }
+      if (merged != null) {
+        final var own = new LinkedHashMap<>(map);
+        map.clear();
+        map.putAll(merged);
+        map.putAll(own);
+      }
+      return map;
+    } else {
+      throw new InvalidConfigurationException(String.format("Unexpected event %s", event));
+    }
+    YamlEventReader.storeAnchor(event, value, anchors);
+    return value;
+  }
+
+  /**
+   * resolves the scalar into a primitive object.
+   *
+   * @param event the event to resolve.
+   *
+   * @return resolved value.
+   */
+  @Nullable
+  private static Object resolveScalar(@NotNull final ScalarEvent event) {
+    final var value = event.getValue();
+    final Tag tag;
+    if (event.getImplicit().canOmitTagInPlainScalar()) {
+      tag = YamlEventReader.RESOLVER.resolve(NodeId.scalar, value, true);
+    } else if (event.getTag() != null) {
+      tag = new Tag(event.getTag());
+    } else {
+      return value;
+    }
+    try {
+      if (Tag.NULL.equals(tag)) {
+        return null;
+      }
+      if (Tag.BOOL.equals(tag)) {
+        final var lower = value.toLowerCase(Locale.ROOT);
+        return "true".equals(lower) || "yes".equals(lower) || "on".equals(lower);
+      }
+      if (Tag.INT.equals(tag)) {
+        return YamlEventReader.parseInteger(value);
+      }
+      if (Tag.FLOAT.equals(tag)) {
+        final var text = value.replace("_", "").toLowerCase(Locale.ROOT);
+        if (text.endsWith(".inf")) {
+          return text.startsWith("-")
+            ? Double.NEGATIVE_INFINITY
+            : Double.POSITIVE_INFINITY;
+        }
+        if (text.equals(".nan")) {
+          return Double.NaN;
+        }
+        return Double.valueOf(text);
+      }
+    } catch (final NumberFormatException ignored) {
+    }
+    return value;
+  }
+
+  /**
+   * stores the value if the event has an anchor.
+   *
+   * @param event the event to store.
+   * @param value the value to store.
+   * @param anchors the anchors to store.
+   */
+  private static void storeAnchor(@NotNull final Event event, @Nullable final Object value,
+                                  @NotNull final Map<String, Object> anchors) {
+    final var anchor = ((NodeEvent) event).getAnchor();
+    if (anchor != null) {
+      anchors.put(anchor, value);
+    }
+  }
+}
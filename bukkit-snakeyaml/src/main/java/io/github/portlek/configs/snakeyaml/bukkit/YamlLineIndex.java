@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.snakeyaml.bukkit;
+
+import io.github.portlek.configs.core.YamlLines;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents line indexes of the top-level keys of a rendered yaml document.
+ * <p>
+ * each key owns the comment lines right above it and the lines until the next key, except the blank and comment lines
+ * at the end. nested keys belong to the block of their top-level key.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class YamlLineIndex {
+
+  /**
+   * the blocks of the keys in the document order.
+   */
+  @NotNull
+  private final Map<String, Block> blocks;
+
+  /**
+   * the comment prefix.
+   */
+  @NotNull
+  private final String commentPrefix;
+
+  /**
+   * the lines.
+   */
+  @NotNull
+  private final List<String> lines;
+
+  /**
+   * indexes the document.
+   *
+   * @param document the document to index.
+   * @param commentPrefix the comment prefix to index.
+   *
+   * @return line index.
+   */
+  @NotNull
+  static YamlLineIndex of(@NotNull final String document, @NotNull final String commentPrefix) {
+    return YamlLineIndex.of(Arrays.asList(document.split("\n", -1)), commentPrefix);
+  }
+
+  /**
+   * indexes the lines.
+   *
+   * @param lines the lines to index.
+   * @param commentPrefix the comment prefix to index.
+   *
+   * @return line index.
+   */
+  @NotNull
+  private static YamlLineIndex of(@NotNull final List<String> lines, @NotNull final String commentPrefix) {
+    final var comment = commentPrefix.trim();
+    final var keys = new ArrayList<String>();
+    final var starts = new ArrayList<Integer>();
+    for (var index = 0; index < lines.size(); index++) {
+      final var line = lines.get(index);
+      final var key = YamlLines.indent(line) == 0
+        ? YamlLines.keyName(line, 0)
+        : null;
+      if (key != null) {
+        keys.add(key);
+        starts.add(index);
+      }
+    }
+    final var commentStarts = new int[keys.size()];
+    for (var index = 0; index < keys.size(); index++) {
+      final var limit = index == 0
+        ? 0
+        : starts.get(index - 1) + 1;
+      var commentStart = starts.get(index);
+      while (commentStart > limit && lines.get(commentStart - 1).startsWith(comment)) {
+        commentStart--;
+      }
+      commentStarts[index] = commentStart;
+    }
+    final var blocks = new LinkedHashMap<String, Block>();
+    for (var index = 0; index < keys.size(); index++) {
+      final int start = starts.get(index);
+      var end = index + 1 == keys.size()
+        ? lines.size()
+        : commentStarts[index + 1];
+      while (end > start + 1 && YamlLineIndex.isTrailing(lines.get(end - 1), comment)) {
+        end--;
+      }
+      blocks.put(keys.get(index), new Block(commentStarts[index], end, index == 0, start));
+    }
+    return new YamlLineIndex(blocks, commentPrefix, lines);
+  }
+
+  /**
+   * checks if the line can be left out of the block above it.
+   *
+   * @param line the line to check.
+   * @param comment the comment to check.
+   *
+   * @return {@code true} if the line is blank or a top-level comment.
+   */
+  private static boolean isTrailing(@NotNull final String line, @NotNull final String comment) {
+    return line.isBlank() || line.startsWith(comment);
+  }
+
+  /**
+   * writes the document by rendering only the changed keys and passing the other lines through untouched.
+   *
+   * @param writer the writer to write.
+   * @param changed the changed keys to render.
+   * @param renderer the renderer to render lines of an existing key without comments, {@code null} if removed.
+   * @param commentedRenderer the commented renderer to render lines of a new key with comments.
+   *
+   * @return the index of the written document.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  @NotNull
+  YamlLineIndex patch(@NotNull final Writer writer, @NotNull final Collection<String> changed,
+                      @NotNull final Renderer renderer, @NotNull final Renderer commentedRenderer)
+    throws IOException {
+    final var replacements = new HashMap<Integer, String>();
+    final var added = new ArrayList<String>();
+    for (final var key : changed) {
+      final var block = this.blocks.get(key);
+      if (block == null) {
+        added.add(key);
+      } else {
+        replacements.put(block.commentStart, key);
+      }
+    }
+    final var written = new ArrayList<String>(this.lines.size() + added.size() * 2);
+    final var last = this.lines.isEmpty() || !this.lines.get(this.lines.size() - 1).isEmpty()
+      ? this.lines.size()
+      : this.lines.size() - 1;
+    var index = 0;
+    while (index < last) {
+      final var key = replacements.get(index);
+      if (key == null) {
+        written.add(this.lines.get(index));
+        index++;
+        continue;
+      }
+      final var block = this.blocks.get(key);
+      final var rendered = renderer.render(key);
+      if (rendered != null) {
+        written.addAll(this.lines.subList(block.commentStart, block.start));
+        written.addAll(rendered);
+      } else if (block.first) {
+        written.addAll(this.lines.subList(block.commentStart, block.start));
+      }
+      index = block.end;
+    }
+    for (final var key : added) {
+      final var rendered = commentedRenderer.render(key);
+      if (rendered != null) {
+        written.addAll(rendered);
+      }
+    }
+    if (last < this.lines.size()) {
+      written.add("");
+    }
+    for (var line = 0; line < written.size(); line++) {
+      if (line > 0) {
+        writer.write('\n');
+      }
+      writer.write(written.get(line));
+    }
+    return YamlLineIndex.of(written, this.commentPrefix);
+  }
+
+  /**
+   * an interface to determine renderers of the top-level keys.
+   */
+  @FunctionalInterface
+  interface Renderer {
+
+    /**
+     * renders the key.
+     *
+     * @param key the key to render.
+     *
+     * @return rendered lines or {@code null} if the key does not exist anymore.
+     *
+     * @throws IOException if something goes wrong when rendering.
+     */
+    @Nullable
+    List<String> render(@NotNull String key) throws IOException;
+  }
+
+  /**
+   * a class that represents line ranges of the top-level keys.
+   */
+  @RequiredArgsConstructor
+  private static final class Block {
+
+    /**
+     * the first line of the comments above the key.
+     */
+    private final int commentStart;
+
+    /**
+     * the line after the last line of the key.
+     */
+    private final int end;
+
+    /**
+     * the first block of the document, whose comments may contain the header.
+     */
+    private final boolean first;
+
+    /**
+     * the line of the key.
+     */
+    private final int start;
+  }
+}
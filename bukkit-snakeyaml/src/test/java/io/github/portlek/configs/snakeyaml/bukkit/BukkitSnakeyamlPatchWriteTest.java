@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.snakeyaml.bukkit;
+
+import io.github.portlek.transformer.TransformedObject;
+import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class BukkitSnakeyamlPatchWriteTest {
+
+  private static final String DOCUMENT = "# kept comment\n"
+    + "section:\n"
+    + "  zeta: 1\n"
+    + "  alpha: 2\n"
+    + "  nested:\n"
+    + "    omega: 3\n"
+    + "    beta: 4\n"
+    + "  mid: 5\n"
+    + "# other comment\n"
+    + "other: 1\n";
+
+  @Test
+  void keepsTheNestedKeyOrderOfPatchedSections() throws Exception {
+    final var resolver = new BukkitSnakeyaml();
+    resolver.setPatchWrites(true);
+    final var declaration = TransformedObjectDeclaration.of(Document.class);
+    resolver.load(new ByteArrayInputStream(BukkitSnakeyamlPatchWriteTest.DOCUMENT.getBytes(StandardCharsets.UTF_8)),
+      declaration);
+    resolver.setValue("section.alpha", 20, null, null);
+    final var output = new ByteArrayOutputStream();
+    resolver.write(output, declaration);
+    Assertions.assertEquals(BukkitSnakeyamlPatchWriteTest.DOCUMENT.replace("alpha: 2", "alpha: 20"),
+      output.toString(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * a class that represents an empty config class.
+   */
+  public static final class Document extends TransformedObject {
+
+  }
+}
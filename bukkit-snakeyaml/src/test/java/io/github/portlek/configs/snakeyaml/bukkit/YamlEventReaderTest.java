@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.snakeyaml.bukkit;
+
+import java.util.List;
+import java.util.Map;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class YamlEventReaderTest {
+
+  @Test
+  void copiesAliasedContainers() throws InvalidConfigurationException {
+    final var values = YamlEventReader.read("base: &base\n  list: &list [1, 2]\n  name: a\ncopy: *base\nlist: *list\n");
+    final var base = (Map<?, ?>) values.get("base");
+    final var copy = (Map<?, ?>) values.get("copy");
+    Assertions.assertEquals(base, copy);
+    Assertions.assertNotSame(base, copy);
+    Assertions.assertNotSame(base.get("list"), copy.get("list"));
+    Assertions.assertNotSame(base.get("list"), values.get("list"));
+    Assertions.assertEquals(List.of(1, 2), values.get("list"));
+  }
+
+  @Test
+  void mergesKeys() throws InvalidConfigurationException {
+    final var values = YamlEventReader.read(""
+      + "defaults: &defaults\n  a: 1\n  b: 2\n"
+      + "extra: &extra\n  b: 3\n  c: 4\n"
+      + "single:\n  <<: *defaults\n  b: 20\n"
+      + "multiple:\n  d: 5\n  <<: [*extra, *defaults]\n");
+    final var single = (Map<?, ?>) values.get("single");
+    Assertions.assertEquals(Map.of("a", 1, "b", 20), single);
+    Assertions.assertEquals(List.of("a", "b"), List.copyOf(single.keySet()));
+    final var multiple = (Map<?, ?>) values.get("multiple");
+    Assertions.assertEquals(Map.of("a", 1, "b", 3, "c", 4, "d", 5), multiple);
+    Assertions.assertEquals(List.of("b", "c", "a", "d"), List.copyOf(multiple.keySet()));
+    Assertions.assertFalse(single.containsKey("<<"));
+  }
+
+  @Test
+  void keepsQuotedMergeKeys() throws InvalidConfigurationException {
+    final var values = YamlEventReader.read("map:\n  '<<': text\n");
+    Assertions.assertEquals(Map.of("<<", "text"), values.get("map"));
+  }
+
+  @Test
+  void rejectsInvalidMerges() {
+    Assertions.assertThrows(InvalidConfigurationException.class, () -> YamlEventReader.read("map:\n  <<: text\n"));
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.configs.core.Instrumentation;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that caches deserialized item stacks by their serialized content.
+ * <p>
+ * the cache keeps a template of each item stack which is never handed out, every read returns a clone of it. the
+ * least recently used templates are removed when the cache is full. the hits and the misses are reported to the
+ * {@link Instrumentation} as well.
+ */
+public final class ItemStackCache {
+
+  /**
+   * the hits.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * the instrumentation.
+   */
+  @NotNull
+  private final Instrumentation instrumentation;
+
+  /**
+   * the maximum size.
+   */
+  private final int maximumSize;
+
+  /**
+   * the misses.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * the name.
+   */
+  @NotNull
+  private final String name;
+
+  /**
+   * the templates.
+   */
+  private final Map<String, ItemStack> templates;
+
+  /**
+   * ctor.
+   *
+   * @param maximumSize the maximum size.
+   * @param instrumentation the instrumentation.
+   * @param name the name.
+   */
+  public ItemStackCache(final int maximumSize, @NotNull final Instrumentation instrumentation,
+                        @NotNull final String name) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Maximum size must be positive!");
+    }
+    this.maximumSize = maximumSize;
+    this.instrumentation = instrumentation;
+    this.name = name;
+    this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, ItemStack> eldest) {
+        return this.size() > ItemStackCache.this.maximumSize;
+      }
+    };
+  }
+
+  /**
+   * ctor.
+   *
+   * @param maximumSize the maximum size.
+   */
+  public ItemStackCache(final int maximumSize) {
+    this(maximumSize, Instrumentation.NOOP, "default");
+  }
+
+  /**
+   * ctor.
+   */
+  public ItemStackCache() {
+    this(1024);
+  }
+
+  /**
+   * clears the templates.
+   */
+  public synchronized void clear() {
+    this.templates.clear();
+  }
+
+  /**
+   * gets a clone of the template of the content or loads it.
+   *
+   * @param content the content to get.
+   * @param loader the loader to load.
+   *
+   * @return a clone of the template.
+   *
+   * @throws IOException if the loader fails.
+   */
+  @NotNull
+  public ItemStack get(@NotNull final String content, @NotNull final Loader loader) throws IOException {
+    synchronized (this) {
+      final var template = this.templates.get(content);
+      if (template != null) {
+        this.hits.increment();
+        this.instrumentation.onCacheAccess(ItemStackCache.class.getSimpleName(), this.name, true);
+        return template.clone();
+      }
+    }
+    this.misses.increment();
+    this.instrumentation.onCacheAccess(ItemStackCache.class.getSimpleName(), this.name, false);
+    final var template = loader.load();
+    synchronized (this) {
+      this.templates.put(content, template.clone());
+    }
+    return template;
+  }
+
+  /**
+   * obtains the hit rate.
+   *
+   * @return hit rate between {@code 0} and {@code 1}.
+   */
+  public double getHitRate() {
+    final var hits = this.hits.sum();
+    final var total = hits + this.misses.sum();
+    return total == 0
+      ? 0.0d
+      : (double) hits / total;
+  }
+
+  /**
+   * obtains the hits.
+   *
+   * @return hits.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * obtains the misses.
+   *
+   * @return misses.
+   */
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  /**
+   * obtains the size.
+   *
+   * @return the number of the templates.
+   */
+  public synchronized int size() {
+    return this.templates.size();
+  }
+
+  /**
+   * an interface to determine loaders of the item stacks.
+   */
+  @FunctionalInterface
+  public interface Loader {
+
+    /**
+     * loads the item stack.
+     *
+     * @return loaded item stack.
+     *
+     * @throws IOException if something goes wrong when loading.
+     */
+    @NotNull
+    ItemStack load() throws IOException;
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.transformer.ObjectSerializer;
+import io.github.portlek.transformer.TransformedData;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that encodes item stacks into Base64 blobs of Bukkit's own object serialization.
+ * <p>
+ * a bulk blob starts with the number of the item stacks and keeps {@code null} slots, so inventories with thousands
+ * of item stacks are written as a single string.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ItemStackCodec {
+
+  /**
+   * the key of the blobs in the transformed data.
+   * <p>
+   * it is not {@code data}, so the readable item stacks whose maps contain a string {@code data} entry are not taken
+   * for blobs.
+   */
+  static final String KEY = "base64";
+
+  /**
+   * decodes the item stack.
+   *
+   * @param encoded the encoded to decode.
+   *
+   * @return decoded item stack.
+   *
+   * @throws IOException if the blob is not a valid item stack.
+   */
+  @NotNull
+  public static ItemStack decode(@NotNull final String encoded) throws IOException {
+    try (final var input = ItemStackCodec.input(encoded)) {
+      return ItemStackCodec.readItemStack(input);
+    }
+  }
+
+  /**
+   * decodes the item stacks into an array.
+   *
+   * @param encoded the encoded to decode.
+   *
+   * @return decoded item stacks, empty slots are {@code null}.
+   *
+   * @throws IOException if the blob is not a valid item stack array.
+   */
+  @NotNull
+  public static ItemStack[] decodeArray(@NotNull final String encoded) throws IOException {
+    try (final var input = ItemStackCodec.input(encoded)) {
+      final var itemStacks = new ItemStack[input.readInt()];
+      for (var index = 0; index < itemStacks.length; index++) {
+        itemStacks[index] = ItemStackCodec.readNullableItemStack(input);
+      }
+      return itemStacks;
+    }
+  }
+
+  /**
+   * decodes the item stacks into a list.
+   *
+   * @param encoded the encoded to decode.
+   *
+   * @return decoded item stacks, empty slots are {@code null}.
+   *
+   * @throws IOException if the blob is not a valid item stack list.
+   */
+  @NotNull
+  public static List<ItemStack> decodeList(@NotNull final String encoded) throws IOException {
+    try (final var input = ItemStackCodec.input(encoded)) {
+      final var size = input.readInt();
+      final var itemStacks = new ArrayList<ItemStack>(size);
+      for (var index = 0; index < size; index++) {
+        itemStacks.add(ItemStackCodec.readNullableItemStack(input));
+      }
+      return itemStacks;
+    }
+  }
+
+  /**
+   * encodes the item stack.
+   *
+   * @param itemStack the item stack to encode.
+   *
+   * @return encoded item stack.
+   *
+   * @throws IOException if the item stack cannot be serialized.
+   */
+  @NotNull
+  public static String encode(@NotNull final ItemStack itemStack) throws IOException {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new BukkitObjectOutputStream(bytes)) {
+      output.writeObject(itemStack);
+    }
+    return Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  /**
+   * encodes the item stacks.
+   *
+   * @param itemStacks the item stacks to encode.
+   *
+   * @return encoded item stacks.
+   *
+   * @throws IOException if an item stack cannot be serialized.
+   */
+  @NotNull
+  public static String encodeAll(@NotNull final Collection<? extends ItemStack> itemStacks) throws IOException {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new BukkitObjectOutputStream(bytes)) {
+      output.writeInt(itemStacks.size());
+      for (final var itemStack : itemStacks) {
+        output.writeObject(itemStack);
+      }
+    }
+    return Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  /**
+   * encodes the item stacks.
+   *
+   * @param itemStacks the item stacks to encode.
+   *
+   * @return encoded item stacks.
+   *
+   * @throws IOException if an item stack cannot be serialized.
+   */
+  @NotNull
+  public static String encodeAll(@NotNull final ItemStack[] itemStacks) throws IOException {
+    return ItemStackCodec.encodeAll(Arrays.asList(itemStacks));
+  }
+
+  /**
+   * creates an input stream of the blob.
+   *
+   * @param encoded the encoded to create.
+   *
+   * @return object input stream.
+   *
+   * @throws IOException if the blob is not valid Base64 or has not a stream header.
+   */
+  @NotNull
+  private static BukkitObjectInputStream input(@NotNull final String encoded) throws IOException {
+    try {
+      return new BukkitObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)));
+    } catch (final IllegalArgumentException e) {
+      throw new IOException("Invalid Base64 item stack data", e);
+    }
+  }
+
+  /**
+   * reads the next item stack.
+   *
+   * @param input the input to read.
+   *
+   * @return read item stack.
+   *
+   * @throws IOException if the next object is not an item stack.
+   */
+  @NotNull
+  private static ItemStack readItemStack(@NotNull final BukkitObjectInputStream input) throws IOException {
+    final var itemStack = ItemStackCodec.readNullableItemStack(input);
+    if (itemStack == null) {
+      throw new IOException("Item stack data contains null");
+    }
+    return itemStack;
+  }
+
+  /**
+   * reads the next item stack or {@code null}.
+   *
+   * @param input the input to read.
+   *
+   * @return read item stack.
+   *
+   * @throws IOException if the next object is not an item stack.
+   */
+  @Nullable
+  private static ItemStack readNullableItemStack(@NotNull final BukkitObjectInputStream input) throws IOException {
+    final Object object;
+    try {
+      object = input.readObject();
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+    if (object != null && !(object instanceof ItemStack)) {
+      throw new IOException(String.format("Expected an item stack but was %s", object.getClass()));
+    }
+    return (ItemStack) object;
+  }
+
+  /**
+   * a class that represents serializer of item stack arrays which writes them as a single blob.
+   */
+  public static final class ArraySerializer implements ObjectSerializer<ItemStack[]> {
+
+    @NotNull
+    @Override
+    public Optional<ItemStack[]> deserialize(@NotNull final TransformedData transformedData,
+                                             @Nullable final GenericDeclaration declaration) {
+      return transformedData.get(ItemStackCodec.KEY, String.class).map(encoded -> {
+        try {
+          return ItemStackCodec.decodeArray(encoded);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+
+    @NotNull
+    @Override
+    public Optional<ItemStack[]> deserialize(@NotNull final ItemStack[] field,
+                                             @NotNull final TransformedData transformedData,
+                                             @Nullable final GenericDeclaration declaration) {
+      return this.deserialize(transformedData, declaration);
+    }
+
+    @Override
+    public void serialize(@NotNull final ItemStack[] itemStacks, @NotNull final TransformedData transformedData) {
+      try {
+        transformedData.add(ItemStackCodec.KEY, ItemStackCodec.encodeAll(itemStacks));
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public boolean supports(@NotNull final Class<?> cls) {
+      return cls == ItemStack[].class;
+    }
+  }
+}
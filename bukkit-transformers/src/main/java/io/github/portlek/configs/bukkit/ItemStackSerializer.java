@@ -31,20 +31,73 @@ import io.github.portlek.bukkititembuilder.util.KeyUtil;
 import io.github.portlek.transformer.ObjectSerializer;
 import io.github.portlek.transformer.TransformedData;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * a class that represents serializer of {@link ItemStackBuilder}.
+ * <p>
+ * the compact item stacks which are written as a {@code base64} entry are read regardless of the mode. only the
+ * compact item stacks are cached, since their {@code base64} entry is the whole content of the item stack. the
+ * readable maps are deserialized on every read.
  */
+@RequiredArgsConstructor
 public final class ItemStackSerializer implements ObjectSerializer<ItemStack> {
 
+  /**
+   * the cache of the compact item stacks.
+   * <p>
+   * the readable maps are not cached, so the configs which should be cached have to be written in the compact mode.
+   * {@link TransformedData} hands out the entries of a section one by one, so keying a readable map would read every
+   * entry of it, which is the work that the cache saves.
+   */
+  @Nullable
+  private final ItemStackCache cache;
+
+  /**
+   * the compact.
+   * <p>
+   * if it's enabled, item stacks are written as Base64 blobs of Bukkit's own object serialization instead of the
+   * readable maps.
+   */
+  private final boolean compact;
+
+  /**
+   * ctor.
+   *
+   * @param compact the compact.
+   */
+  public ItemStackSerializer(final boolean compact) {
+    this(null, compact);
+  }
+
+  /**
+   * ctor.
+   */
+  public ItemStackSerializer() {
+    this(false);
+  }
+
   @NotNull
   @Override
   public Optional<ItemStack> deserialize(@NotNull final TransformedData transformedData,
                                          @Nullable final GenericDeclaration declaration) {
+    final var data = transformedData.get(ItemStackCodec.KEY, String.class);
+    if (data.isPresent()) {
+      final var encoded = data.get();
+      try {
+        return Optional.of(this.cache == null
+          ? ItemStackCodec.decode(encoded)
+          : this.cache.get(encoded, () -> ItemStackCodec.decode(encoded)));
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
     return ItemStackUtil.deserialize(KeyUtil.Holder.transformedData(transformedData));
   }
 
@@ -58,6 +111,14 @@ public final class ItemStackSerializer implements ObjectSerializer<ItemStack> {
 
   @Override
   public void serialize(@NotNull final ItemStack itemStack, @NotNull final TransformedData transformedData) {
+    if (this.compact) {
+      try {
+        transformedData.add(ItemStackCodec.KEY, ItemStackCodec.encode(itemStack));
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return;
+    }
     ItemStackUtil.serialize(ItemStackBuilder.from(itemStack), KeyUtil.Holder.transformedData(transformedData));
   }
 
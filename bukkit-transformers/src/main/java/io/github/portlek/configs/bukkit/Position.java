@@ -28,13 +28,16 @@ package io.github.portlek.configs.bukkit;
 import io.github.portlek.transformer.ObjectSerializer;
 import io.github.portlek.transformer.TransformedData;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.lang.ref.WeakReference;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,10 +45,14 @@ import org.jetbrains.annotations.Nullable;
  * a class that represents positions.
  */
 @Getter
-@AllArgsConstructor
 @RequiredArgsConstructor
 public final class Position {
 
+  /**
+   * the separator of the compact string.
+   */
+  private static final char SEPARATOR = ';';
+
   /**
    * the world name.
    */
@@ -67,6 +74,13 @@ public final class Position {
    */
   private final double z;
 
+  /**
+   * the cached world.
+   */
+  @Getter(AccessLevel.NONE)
+  @Nullable
+  private volatile CachedWorld cachedWorld;
+
   /**
    * the pitch.
    */
@@ -77,6 +91,26 @@ public final class Position {
    */
   private float yaw;
 
+  /**
+   * ctor.
+   *
+   * @param worldName the world name.
+   * @param x the x.
+   * @param y the y.
+   * @param z the z.
+   * @param pitch the pitch.
+   * @param yaw the yaw.
+   */
+  public Position(@NotNull final String worldName, final double x, final double y, final double z, final float pitch,
+                  final float yaw) {
+    this.worldName = worldName;
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.pitch = pitch;
+    this.yaw = yaw;
+  }
+
   /**
    * ctor.
    *
@@ -101,7 +135,59 @@ public final class Position {
    */
   public Position(@NotNull final String worldName, final int x, final int y, final int z, final float yaw,
                   final float pitch) {
-    this(worldName, (double) x, y, z, yaw, pitch);
+    this(worldName, (double) x, y, z, pitch, yaw);
+  }
+
+  /**
+   * parses the compact string that is created by {@link #toCompactString()}.
+   *
+   * @param value the value to parse.
+   *
+   * @return parsed position.
+   */
+  @NotNull
+  public static Optional<Position> fromCompactString(@NotNull final String value) {
+    final var separators = new int[5];
+    var end = value.length();
+    for (var index = separators.length - 1; index >= 0; index--) {
+      end = value.lastIndexOf(Position.SEPARATOR, end - 1);
+      if (end <= 0) {
+        return Optional.empty();
+      }
+      separators[index] = end;
+    }
+    try {
+      return Optional.of(new Position(
+        value.substring(0, separators[0]),
+        Double.parseDouble(value.substring(separators[0] + 1, separators[1])),
+        Double.parseDouble(value.substring(separators[1] + 1, separators[2])),
+        Double.parseDouble(value.substring(separators[2] + 1, separators[3])),
+        Float.parseFloat(value.substring(separators[4] + 1)),
+        Float.parseFloat(value.substring(separators[3] + 1, separators[4]))));
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * fills the location with the world and the coordinates of the position without creating a new location.
+   *
+   * @param location the location to fill.
+   *
+   * @return {@code true} if the world is loaded and the location is filled.
+   */
+  public boolean fillLocation(@NotNull final Location location) {
+    final var world = this.getWorld();
+    if (world == null) {
+      return false;
+    }
+    location.setWorld(world);
+    location.setX(this.x);
+    location.setY(this.y);
+    location.setZ(this.z);
+    location.setYaw(this.yaw);
+    location.setPitch(this.pitch);
+    return true;
   }
 
   /**
@@ -111,7 +197,7 @@ public final class Position {
    */
   @NotNull
   public Optional<Location> getLocation() {
-    return Optional.ofNullable(Bukkit.getWorld(this.worldName))
+    return Optional.ofNullable(this.getWorld())
       .map(world ->
         new Location(world,
           this.x, this.y, this.z, this.yaw, this.pitch));
@@ -126,27 +212,212 @@ public final class Position {
    */
   @NotNull
   public Location getLocationThrown() {
-    return new Location(Objects.requireNonNull(Bukkit.getWorld(this.worldName), "world"),
+    return new Location(Objects.requireNonNull(this.getWorld(), "world"),
       this.x, this.y, this.z, this.yaw, this.pitch);
   }
 
+  /**
+   * obtains the world.
+   * <p>
+   * the world is held weakly and reused until a world unloads if {@link WorldCache} is registered.
+   *
+   * @return the world or {@code null} if the currently running server has not a world called {@link #worldName}.
+   */
+  @Nullable
+  public World getWorld() {
+    if (!WorldCache.isEnabled()) {
+      return Bukkit.getWorld(this.worldName);
+    }
+    final var generation = WorldCache.generation();
+    final var cached = this.cachedWorld;
+    if (cached != null && cached.generation == generation) {
+      final var world = cached.world.get();
+      if (world != null) {
+        return world;
+      }
+    }
+    final var world = Bukkit.getWorld(this.worldName);
+    this.cachedWorld = world == null
+      ? null
+      : new CachedWorld(generation, new WeakReference<>(world));
+    return world;
+  }
+
+  /**
+   * converts the position into a compact string.
+   * <p>
+   * the string looks like {@code world;x;y;z;yaw;pitch}, the world name is read up to the fifth separator from the end
+   * so it may contain the separator itself.
+   *
+   * @return compact string.
+   */
+  @NotNull
+  public String toCompactString() {
+    return this.worldName + Position.SEPARATOR + this.x + Position.SEPARATOR + this.y + Position.SEPARATOR + this.z
+      + Position.SEPARATOR + this.yaw + Position.SEPARATOR + this.pitch;
+  }
+
+  /**
+   * an enum class that contains formats of {@link Serializer}.
+   */
+  public enum Format {
+    /**
+     * writes the world, x, y, z, yaw and pitch as separated entries.
+     */
+    MAP,
+    /**
+     * writes a single {@code value} entry which contains {@link #toCompactString()}.
+     */
+    STRING,
+    /**
+     * writes the world and a {@code values} entry which contains x, y, z, yaw and pitch as a numeric array.
+     */
+    ARRAY
+  }
+
+  /**
+   * a class that represents weakly held worlds with the cache generation they are resolved in.
+   */
+  @RequiredArgsConstructor
+  private static final class CachedWorld {
+
+    /**
+     * the generation.
+     */
+    private final int generation;
+
+    /**
+     * the world.
+     */
+    @NotNull
+    private final WeakReference<World> world;
+  }
+
   /**
    * a class that represents serializer of {@link Position}.
+   * <p>
+   * all the formats are read regardless of the format that is used to write.
    */
+  @RequiredArgsConstructor
   public static final class Serializer implements ObjectSerializer<Position> {
 
+    /**
+     * the format.
+     */
+    @NotNull
+    private final Format format;
+
+    /**
+     * ctor.
+     */
+    public Serializer() {
+      this(Format.MAP);
+    }
+
+    /**
+     * creates a position from the {@link Format#ARRAY} values.
+     *
+     * @param world the world to create.
+     * @param values the values to create.
+     *
+     * @return position or {@link Optional#empty()} if a value is not a number.
+     */
+    @NotNull
+    private static Optional<Position> fromArray(@NotNull final String world, @NotNull final List<?> values) {
+      try {
+        return Optional.of(new Position(
+          world,
+          Serializer.numberAt(values, 0),
+          Serializer.numberAt(values, 1),
+          Serializer.numberAt(values, 2),
+          (float) Serializer.numberAt(values, 4),
+          (float) Serializer.numberAt(values, 3)));
+      } catch (final NumberFormatException e) {
+        return Optional.empty();
+      }
+    }
+
+    /**
+     * creates a position from the {@link Format#MAP} entries.
+     *
+     * @param world the world to create.
+     * @param x the x to create.
+     * @param transformedData the transformed data to create.
+     *
+     * @return position.
+     */
+    @NotNull
+    private static Optional<Position> fromMap(@NotNull final String world, final double x,
+                                              @NotNull final TransformedData transformedData) {
+      return Optional.of(new Position(
+        world,
+        x,
+        transformedData.get("y", double.class).orElse(0.0d),
+        transformedData.get("z", double.class).orElse(0.0d),
+        transformedData.get("pitch", float.class).orElse(0.0f),
+        transformedData.get("yaw", float.class).orElse(0.0f)));
+    }
+
+    /**
+     * gets the number at the index as double.
+     *
+     * @param values the values to get.
+     * @param index the index to get.
+     *
+     * @return number at the index or {@code 0} if the values are shorter.
+     *
+     * @throws NumberFormatException if the value at the index is not a number.
+     */
+    private static double numberAt(@NotNull final List<?> values, final int index) {
+      if (index >= values.size()) {
+        return 0.0d;
+      }
+      final var value = values.get(index);
+      if (value instanceof Number) {
+        return ((Number) value).doubleValue();
+      }
+      return Double.parseDouble(String.valueOf(value));
+    }
+
+    /**
+     * reads the position in the order of the format that is used to write, so a file in the configured format is read
+     * with the same lookups as before the other formats existed.
+     *
+     * @param transformedData the transformed data to deserialize.
+     * @param declaration the declaration to deserialize.
+     *
+     * @return deserialized position or {@link Optional#empty()} if the data is not a position.
+     */
     @NotNull
     @Override
     public Optional<Position> deserialize(@NotNull final TransformedData transformedData,
                                           @Nullable final GenericDeclaration declaration) {
-      return transformedData.get("world", String.class).map(world ->
-        new Position(
-          world,
-          transformedData.get("x", double.class).orElse(0.0d),
-          transformedData.get("y", double.class).orElse(0.0d),
-          transformedData.get("z", double.class).orElse(0.0d),
-          transformedData.get("yaw", float.class).orElse(0.0f),
-          transformedData.get("pitch", float.class).orElse(0.0f)));
+      if (this.format == Format.STRING) {
+        final var compact = transformedData.get("value", String.class);
+        if (compact.isPresent()) {
+          return compact.flatMap(Position::fromCompactString);
+        }
+      }
+      final var world = transformedData.get("world", String.class);
+      if (world.isEmpty()) {
+        return this.format == Format.STRING
+          ? Optional.empty()
+          : transformedData.get("value", String.class).flatMap(Position::fromCompactString);
+      }
+      if (this.format == Format.ARRAY) {
+        final var values = transformedData.get("values", List.class);
+        if (values.isPresent()) {
+          return Serializer.fromArray(world.get(), values.get());
+        }
+      }
+      final var x = transformedData.get("x", double.class);
+      if (x.isEmpty() && this.format == Format.MAP) {
+        final var values = transformedData.get("values", List.class);
+        if (values.isPresent()) {
+          return Serializer.fromArray(world.get(), values.get());
+        }
+      }
+      return Serializer.fromMap(world.get(), x.orElse(0.0d), transformedData);
     }
 
     @NotNull
@@ -159,6 +430,16 @@ public final class Position {
 
     @Override
     public void serialize(@NotNull final Position position, @NotNull final TransformedData transformedData) {
+      if (this.format == Format.STRING) {
+        transformedData.add("value", position.toCompactString());
+        return;
+      }
+      if (this.format == Format.ARRAY) {
+        transformedData.add("world", position.getWorldName());
+        transformedData.add("values", List.<Number>of(
+          position.getX(), position.getY(), position.getZ(), position.getYaw(), position.getPitch()));
+        return;
+      }
       transformedData.add("world", position.getWorldName());
       transformedData.add("x", position.getX());
       transformedData.add("y", position.getY());
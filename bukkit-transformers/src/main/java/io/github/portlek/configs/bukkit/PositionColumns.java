@@ -0,0 +1,268 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.transformer.ObjectSerializer;
+import io.github.portlek.transformer.TransformedData;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents lots of positions as columns.
+ * <p>
+ * the world names are kept once in a dictionary and the coordinates are kept in primitive arrays, so files that hold
+ * tens of thousands of positions are read and written as a few lists instead of a map for each position.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PositionColumns extends AbstractList<Position> implements RandomAccess {
+
+  /**
+   * the pitches.
+   */
+  @NotNull
+  private final float[] pitches;
+
+  /**
+   * the world indexes of the positions.
+   */
+  @NotNull
+  private final int[] worldIndexes;
+
+  /**
+   * the world names.
+   */
+  @NotNull
+  private final List<String> worlds;
+
+  /**
+   * the x values.
+   */
+  @NotNull
+  private final double[] xs;
+
+  /**
+   * the yaws.
+   */
+  @NotNull
+  private final float[] yaws;
+
+  /**
+   * the y values.
+   */
+  @NotNull
+  private final double[] ys;
+
+  /**
+   * the z values.
+   */
+  @NotNull
+  private final double[] zs;
+
+  /**
+   * creates columns of the positions.
+   *
+   * @param positions the positions to create.
+   *
+   * @return position columns.
+   */
+  @NotNull
+  public static PositionColumns of(@NotNull final Collection<Position> positions) {
+    final var size = positions.size();
+    final var worlds = new ArrayList<String>();
+    final var worldIndexesByName = new HashMap<String, Integer>();
+    final var worldIndexes = new int[size];
+    final var xs = new double[size];
+    final var ys = new double[size];
+    final var zs = new double[size];
+    final var yaws = new float[size];
+    final var pitches = new float[size];
+    var index = 0;
+    for (final var position : positions) {
+      worldIndexes[index] = worldIndexesByName.computeIfAbsent(position.getWorldName(), name -> {
+        worlds.add(name);
+        return worlds.size() - 1;
+      });
+      xs[index] = position.getX();
+      ys[index] = position.getY();
+      zs[index] = position.getZ();
+      yaws[index] = position.getYaw();
+      pitches[index] = position.getPitch();
+      index++;
+    }
+    return new PositionColumns(pitches, worldIndexes, List.copyOf(worlds), xs, yaws, ys, zs);
+  }
+
+  @NotNull
+  @Override
+  public Position get(final int index) {
+    return new Position(this.worlds.get(this.worldIndexes[index]), this.xs[index], this.ys[index], this.zs[index],
+      this.pitches[index], this.yaws[index]);
+  }
+
+  @Override
+  public int size() {
+    return this.worldIndexes.length;
+  }
+
+  /**
+   * a class that represents serializer of {@link PositionColumns}.
+   * <p>
+   * like {@link Position.Serializer}, malformed numbers make the whole value {@link Optional#empty()}.
+   */
+  public static final class Serializer implements ObjectSerializer<PositionColumns> {
+
+    /**
+     * reads the numbers of the column.
+     *
+     * @param transformedData the transformed data to read.
+     * @param key the key to read.
+     * @param size the size to read.
+     *
+     * @return numbers of the column, missing numbers are {@code 0}.
+     *
+     * @throws NumberFormatException if a value of the column is not a number.
+     */
+    @NotNull
+    private static double[] readColumn(@NotNull final TransformedData transformedData, @NotNull final String key,
+                                       final int size) {
+      final var column = new double[size];
+      final List<?> values = transformedData.get(key, List.class).orElse(List.of());
+      final var length = Math.min(size, values.size());
+      for (var index = 0; index < length; index++) {
+        final var value = values.get(index);
+        if (value instanceof Number) {
+          column[index] = ((Number) value).doubleValue();
+        } else if (value != null) {
+          column[index] = Double.parseDouble(value.toString());
+        }
+      }
+      return column;
+    }
+
+    /**
+     * narrows the column into floats.
+     *
+     * @param column the column to narrow.
+     *
+     * @return narrowed column.
+     */
+    @NotNull
+    private static float[] toFloats(@NotNull final double[] column) {
+      final var floats = new float[column.length];
+      for (var index = 0; index < column.length; index++) {
+        floats[index] = (float) column[index];
+      }
+      return floats;
+    }
+
+    @NotNull
+    @Override
+    public Optional<PositionColumns> deserialize(@NotNull final TransformedData transformedData,
+                                                 @Nullable final GenericDeclaration declaration) {
+      final var worlds = transformedData.get("worlds", List.class);
+      final var worldColumn = transformedData.get("world", List.class);
+      if (worlds.isEmpty() || worldColumn.isEmpty()) {
+        return Optional.empty();
+      }
+      final List<?> worldNames = worlds.get();
+      final List<?> worldValues = worldColumn.get();
+      final var size = worldValues.size();
+      final var worldIndexes = new int[size];
+      try {
+        for (var index = 0; index < size; index++) {
+          final var value = worldValues.get(index);
+          worldIndexes[index] = value instanceof Number
+            ? ((Number) value).intValue()
+            : Integer.parseInt(String.valueOf(value));
+          if (worldIndexes[index] < 0 || worldIndexes[index] >= worldNames.size()) {
+            return Optional.empty();
+          }
+        }
+        final var names = new ArrayList<String>(worldNames.size());
+        worldNames.forEach(name -> names.add(String.valueOf(name)));
+        return Optional.of(new PositionColumns(
+          Serializer.toFloats(Serializer.readColumn(transformedData, "pitch", size)),
+          worldIndexes,
+          List.copyOf(names),
+          Serializer.readColumn(transformedData, "x", size),
+          Serializer.toFloats(Serializer.readColumn(transformedData, "yaw", size)),
+          Serializer.readColumn(transformedData, "y", size),
+          Serializer.readColumn(transformedData, "z", size)));
+      } catch (final NumberFormatException e) {
+        return Optional.empty();
+      }
+    }
+
+    @NotNull
+    @Override
+    public Optional<PositionColumns> deserialize(@NotNull final PositionColumns field,
+                                                 @NotNull final TransformedData transformedData,
+                                                 @Nullable final GenericDeclaration declaration) {
+      return this.deserialize(transformedData, declaration);
+    }
+
+    @Override
+    public void serialize(@NotNull final PositionColumns columns, @NotNull final TransformedData transformedData) {
+      final var size = columns.size();
+      final var worldIndexes = new ArrayList<Integer>(size);
+      final var xs = new ArrayList<Double>(size);
+      final var ys = new ArrayList<Double>(size);
+      final var zs = new ArrayList<Double>(size);
+      final var yaws = new ArrayList<Float>(size);
+      final var pitches = new ArrayList<Float>(size);
+      for (var index = 0; index < size; index++) {
+        worldIndexes.add(columns.worldIndexes[index]);
+        xs.add(columns.xs[index]);
+        ys.add(columns.ys[index]);
+        zs.add(columns.zs[index]);
+        yaws.add(columns.yaws[index]);
+        pitches.add(columns.pitches[index]);
+      }
+      transformedData.add("worlds", columns.worlds);
+      transformedData.add("world", worldIndexes);
+      transformedData.add("x", xs);
+      transformedData.add("y", ys);
+      transformedData.add("z", zs);
+      transformedData.add("yaw", yaws);
+      transformedData.add("pitch", pitches);
+    }
+
+    @Override
+    public boolean supports(@NotNull final Class<?> cls) {
+      return cls == PositionColumns.class;
+    }
+  }
+}
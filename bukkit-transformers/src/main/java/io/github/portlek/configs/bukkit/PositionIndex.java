@@ -0,0 +1,405 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.transformer.ObjectSerializer;
+import io.github.portlek.transformer.TransformedData;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents spatial indexes of positions.
+ * <p>
+ * the positions are partitioned by their world names and each world keeps a k-d tree in flat arrays, so the queries
+ * walk the arrays without allocating.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PositionIndex {
+
+  /**
+   * the indexed positions.
+   */
+  @Getter
+  @NotNull
+  private final List<Position> positions;
+
+  /**
+   * the trees of the worlds.
+   */
+  @NotNull
+  private final Map<String, WorldTree> trees;
+
+  /**
+   * creates an index of the positions.
+   *
+   * @param positions the positions to create.
+   *
+   * @return position index.
+   */
+  @NotNull
+  public static PositionIndex of(@NotNull final Collection<Position> positions) {
+    final var byWorld = new HashMap<String, List<Position>>();
+    positions.forEach(position ->
+      byWorld.computeIfAbsent(position.getWorldName(), name -> new ArrayList<>()).add(position));
+    final var trees = new HashMap<String, WorldTree>(byWorld.size() * 2);
+    byWorld.forEach((world, worldPositions) ->
+      trees.put(world, WorldTree.of(worldPositions.toArray(Position[]::new))));
+    return new PositionIndex(List.copyOf(positions), trees);
+  }
+
+  /**
+   * runs the consumer for each position in the box.
+   *
+   * @param world the world to find.
+   * @param minX the min x to find.
+   * @param minY the min y to find.
+   * @param minZ the min z to find.
+   * @param maxX the max x to find.
+   * @param maxY the max y to find.
+   * @param maxZ the max z to find.
+   * @param consumer the consumer to run.
+   */
+  public void forEachInBox(@NotNull final String world, final double minX, final double minY, final double minZ,
+                           final double maxX, final double maxY, final double maxZ,
+                           @NotNull final Consumer<Position> consumer) {
+    final var tree = this.trees.get(world);
+    if (tree != null) {
+      tree.box(0, tree.positions.length, 0, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+    }
+  }
+
+  /**
+   * runs the consumer for each position in the radius.
+   *
+   * @param world the world to find.
+   * @param x the x to find.
+   * @param y the y to find.
+   * @param z the z to find.
+   * @param radius the radius to find.
+   * @param consumer the consumer to run.
+   */
+  public void forEachWithin(@NotNull final String world, final double x, final double y, final double z,
+                            final double radius, @NotNull final Consumer<Position> consumer) {
+    final var tree = this.trees.get(world);
+    if (tree != null) {
+      tree.within(0, tree.positions.length, 0, x, y, z, radius, radius * radius, consumer);
+    }
+  }
+
+  /**
+   * finds the nearest position.
+   *
+   * @param world the world to find.
+   * @param x the x to find.
+   * @param y the y to find.
+   * @param z the z to find.
+   *
+   * @return the nearest position or {@code null} if there is no position in the world.
+   */
+  @Nullable
+  public Position nearest(@NotNull final String world, final double x, final double y, final double z) {
+    final var tree = this.trees.get(world);
+    if (tree == null || tree.positions.length == 0) {
+      return null;
+    }
+    return tree.positions[tree.nearest(0, tree.positions.length, 0, x, y, z, -1)];
+  }
+
+  /**
+   * obtains the size.
+   *
+   * @return the number of the indexed positions.
+   */
+  public int size() {
+    return this.positions.size();
+  }
+
+  /**
+   * a class that represents serializer of {@link PositionIndex}.
+   * <p>
+   * the positions are written as {@link PositionColumns}.
+   */
+  public static final class Serializer implements ObjectSerializer<PositionIndex> {
+
+    /**
+     * the columns serializer.
+     */
+    private final PositionColumns.Serializer columns = new PositionColumns.Serializer();
+
+    @NotNull
+    @Override
+    public Optional<PositionIndex> deserialize(@NotNull final TransformedData transformedData,
+                                               @Nullable final GenericDeclaration declaration) {
+      return this.columns.deserialize(transformedData, declaration)
+        .map(PositionIndex::of);
+    }
+
+    @NotNull
+    @Override
+    public Optional<PositionIndex> deserialize(@NotNull final PositionIndex field,
+                                               @NotNull final TransformedData transformedData,
+                                               @Nullable final GenericDeclaration declaration) {
+      return this.deserialize(transformedData, declaration);
+    }
+
+    @Override
+    public void serialize(@NotNull final PositionIndex index, @NotNull final TransformedData transformedData) {
+      this.columns.serialize(PositionColumns.of(index.positions), transformedData);
+    }
+
+    @Override
+    public boolean supports(@NotNull final Class<?> cls) {
+      return cls == PositionIndex.class;
+    }
+  }
+
+  /**
+   * a class that represents k-d trees of a world.
+   * <p>
+   * the node of a range is its middle element, its left and right halves are the subtrees and the split axis cycles
+   * through x, y and z.
+   */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static final class WorldTree {
+
+    /**
+     * the comparators of the axes.
+     */
+    private static final List<Comparator<Position>> AXES = List.of(
+      Comparator.comparingDouble(Position::getX),
+      Comparator.comparingDouble(Position::getY),
+      Comparator.comparingDouble(Position::getZ));
+
+    /**
+     * the coordinates of the nodes as x, y and z triples.
+     */
+    @NotNull
+    private final double[] coordinates;
+
+    /**
+     * the positions of the nodes.
+     */
+    @NotNull
+    private final Position[] positions;
+
+    /**
+     * creates a tree of the positions.
+     *
+     * @param positions the positions to create.
+     *
+     * @return world tree.
+     */
+    @NotNull
+    private static WorldTree of(@NotNull final Position[] positions) {
+      WorldTree.build(positions, 0, positions.length, 0);
+      final var coordinates = new double[positions.length * 3];
+      for (var index = 0; index < positions.length; index++) {
+        coordinates[index * 3] = positions[index].getX();
+        coordinates[index * 3 + 1] = positions[index].getY();
+        coordinates[index * 3 + 2] = positions[index].getZ();
+      }
+      return new WorldTree(coordinates, positions);
+    }
+
+    /**
+     * orders the range as a k-d tree.
+     *
+     * @param positions the positions to order.
+     * @param from the from to order.
+     * @param to the to to order.
+     * @param axis the axis to order.
+     */
+    private static void build(@NotNull final Position[] positions, final int from, final int to, final int axis) {
+      if (to - from < 2) {
+        return;
+      }
+      Arrays.sort(positions, from, to, WorldTree.AXES.get(axis));
+      final var middle = from + to >>> 1;
+      final var next = (axis + 1) % 3;
+      WorldTree.build(positions, from, middle, next);
+      WorldTree.build(positions, middle + 1, to, next);
+    }
+
+    /**
+     * picks the coordinate of the axis.
+     *
+     * @param axis the axis to pick.
+     * @param x the x to pick.
+     * @param y the y to pick.
+     * @param z the z to pick.
+     *
+     * @return coordinate of the axis.
+     */
+    private static double pick(final int axis, final double x, final double y, final double z) {
+      if (axis == 0) {
+        return x;
+      }
+      return axis == 1
+        ? y
+        : z;
+    }
+
+    /**
+     * runs the consumer for each node of the range in the box.
+     *
+     * @param from the from to find.
+     * @param to the to to find.
+     * @param axis the axis to find.
+     * @param minX the min x to find.
+     * @param minY the min y to find.
+     * @param minZ the min z to find.
+     * @param maxX the max x to find.
+     * @param maxY the max y to find.
+     * @param maxZ the max z to find.
+     * @param consumer the consumer to run.
+     */
+    private void box(final int from, final int to, final int axis, final double minX, final double minY,
+                     final double minZ, final double maxX, final double maxY, final double maxZ,
+                     @NotNull final Consumer<Position> consumer) {
+      if (from >= to) {
+        return;
+      }
+      final var middle = from + to >>> 1;
+      final var offset = middle * 3;
+      final var x = this.coordinates[offset];
+      final var y = this.coordinates[offset + 1];
+      final var z = this.coordinates[offset + 2];
+      if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+        consumer.accept(this.positions[middle]);
+      }
+      final var value = this.coordinates[offset + axis];
+      final var next = (axis + 1) % 3;
+      if (WorldTree.pick(axis, minX, minY, minZ) <= value) {
+        this.box(from, middle, next, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+      }
+      if (WorldTree.pick(axis, maxX, maxY, maxZ) >= value) {
+        this.box(middle + 1, to, next, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+      }
+    }
+
+    /**
+     * calculates the squared distance between the node and the point.
+     *
+     * @param node the node to calculate.
+     * @param x the x to calculate.
+     * @param y the y to calculate.
+     * @param z the z to calculate.
+     *
+     * @return squared distance.
+     */
+    private double distanceSquared(final int node, final double x, final double y, final double z) {
+      final var offset = node * 3;
+      final var dx = this.coordinates[offset] - x;
+      final var dy = this.coordinates[offset + 1] - y;
+      final var dz = this.coordinates[offset + 2] - z;
+      return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * finds the nearest node of the range.
+     *
+     * @param from the from to find.
+     * @param to the to to find.
+     * @param axis the axis to find.
+     * @param x the x to find.
+     * @param y the y to find.
+     * @param z the z to find.
+     * @param best the best node so far, {@code -1} if there is none.
+     *
+     * @return the nearest node.
+     */
+    private int nearest(final int from, final int to, final int axis, final double x, final double y,
+                        final double z, final int best) {
+      if (from >= to) {
+        return best;
+      }
+      final var middle = from + to >>> 1;
+      var nearest = best == -1 || this.distanceSquared(middle, x, y, z) < this.distanceSquared(best, x, y, z)
+        ? middle
+        : best;
+      final var delta = WorldTree.pick(axis, x, y, z) - this.coordinates[middle * 3 + axis];
+      final var next = (axis + 1) % 3;
+      if (delta < 0) {
+        nearest = this.nearest(from, middle, next, x, y, z, nearest);
+        if (delta * delta < this.distanceSquared(nearest, x, y, z)) {
+          nearest = this.nearest(middle + 1, to, next, x, y, z, nearest);
+        }
+      } else {
+        nearest = this.nearest(middle + 1, to, next, x, y, z, nearest);
+        if (delta * delta < this.distanceSquared(nearest, x, y, z)) {
+          nearest = this.nearest(from, middle, next, x, y, z, nearest);
+        }
+      }
+      return nearest;
+    }
+
+    /**
+     * runs the consumer for each node of the range in the radius.
+     *
+     * @param from the from to find.
+     * @param to the to to find.
+     * @param axis the axis to find.
+     * @param x the x to find.
+     * @param y the y to find.
+     * @param z the z to find.
+     * @param radius the radius to find.
+     * @param radiusSquared the radius squared to find.
+     * @param consumer the consumer to run.
+     */
+    private void within(final int from, final int to, final int axis, final double x, final double y,
+                        final double z, final double radius, final double radiusSquared,
+                        @NotNull final Consumer<Position> consumer) {
+      if (from >= to) {
+        return;
+      }
+      final var middle = from + to >>> 1;
+      if (this.distanceSquared(middle, x, y, z) <= radiusSquared) {
+        consumer.accept(this.positions[middle]);
+      }
+      final var delta = WorldTree.pick(axis, x, y, z) - this.coordinates[middle * 3 + axis];
+      final var next = (axis + 1) % 3;
+      if (delta - radius <= 0) {
+        this.within(from, middle, next, x, y, z, radius, radiusSquared, consumer);
+      }
+      if (delta + radius >= 0) {
+        this.within(middle + 1, to, next, x, y, z, radius, radiusSquared, consumer);
+      }
+    }
+  }
+}
@@ -30,12 +30,21 @@ import io.github.portlek.replaceable.RpString;
 import io.github.portlek.transformer.ObjectSerializer;
 import io.github.portlek.transformer.TransformedData;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -45,6 +54,20 @@ import org.jetbrains.annotations.Nullable;
 @Getter
 public final class SentTitle {
 
+  /**
+   * the compiled sub title.
+   */
+  @Getter(AccessLevel.PACKAGE)
+  @Nullable
+  private final TextTemplate compiledSubTitle;
+
+  /**
+   * the compiled title.
+   */
+  @Getter(AccessLevel.PACKAGE)
+  @Nullable
+  private final TextTemplate compiledTitle;
+
   /**
    * the fade in time.
    */
@@ -55,6 +78,16 @@ public final class SentTitle {
    */
   private final int fadeOut;
 
+  /**
+   * the placeholders of the title and the sub title.
+   * <p>
+   * the title placeholders come first, the sub title placeholders that are not in the title follow them. the values
+   * of {@link #sendValues(Player, String...)} and {@link #broadcast(Plugin, Collection, int, String...)} are in this
+   * order.
+   */
+  @NotNull
+  private final List<String> placeholders;
+
   /**
    * the stay time.
    */
@@ -101,11 +134,92 @@ public final class SentTitle {
                    final int fadeOut) {
     this.title = title;
     this.subTitle = subTitle;
+    final var placeholders = new LinkedHashSet<String>();
+    if (title != null) {
+      placeholders.addAll(title.getRegex());
+    }
+    if (subTitle != null) {
+      placeholders.addAll(subTitle.getRegex());
+    }
+    this.placeholders = List.copyOf(placeholders);
+    this.compiledTitle = title == null ? null : TextTemplate.compile(title.getValue(), this.placeholders);
+    this.compiledSubTitle = subTitle == null ? null : TextTemplate.compile(subTitle.getValue(), this.placeholders);
     this.fadeIn = fadeIn;
     this.stay = stay;
     this.fadeOut = fadeOut;
   }
 
+  /**
+   * sends the title to the players in batches that are spread across ticks.
+   * <p>
+   * the non-null shared values are rendered into the title and the sub title once, the player values fill the rest of
+   * the values for each player into an array that is reused for all the players. both of the arrays are in the order
+   * of {@link #placeholders}.
+   *
+   * @param plugin the plugin to schedule.
+   * @param players the players to send.
+   * @param playersPerTick the players per tick to send.
+   * @param sharedValues the shared values in the order of {@link #placeholders}.
+   * @param playerValues the player values to fill the values of each player.
+   *
+   * @return the task that sends the batches.
+   */
+  @NotNull
+  public BukkitTask broadcast(@NotNull final Plugin plugin, @NotNull final Collection<? extends Player> players,
+                              final int playersPerTick, @NotNull final String[] sharedValues,
+                              @NotNull final BiConsumer<Player, String[]> playerValues) {
+    if (playersPerTick < 1) {
+      throw new IllegalArgumentException("Players per tick must be positive!");
+    }
+    final var title = this.compiledTitle == null ? null : this.compiledTitle.bind(sharedValues);
+    final var subTitle = this.compiledSubTitle == null ? null : this.compiledSubTitle.bind(sharedValues);
+    final var values = new String[this.placeholders.size()];
+    final var targets = List.copyOf(players);
+    return new BukkitRunnable() {
+
+      /**
+       * the index of the next player.
+       */
+      private int next;
+
+      @Override
+      public void run() {
+        final var end = Math.min(this.next + playersPerTick, targets.size());
+        for (; this.next < end; this.next++) {
+          final var player = targets.get(this.next);
+          if (!player.isOnline()) {
+            continue;
+          }
+          Arrays.fill(values, null);
+          playerValues.accept(player, values);
+          Titles.sendTitle(player, SentTitle.this.fadeIn, SentTitle.this.stay, SentTitle.this.fadeOut,
+            title == null ? null : title.render(values),
+            subTitle == null ? null : subTitle.render(values));
+        }
+        if (this.next >= targets.size()) {
+          this.cancel();
+        }
+      }
+    }.runTaskTimer(plugin, 0L, 1L);
+  }
+
+  /**
+   * sends the title to the players in batches that are spread across ticks.
+   *
+   * @param plugin the plugin to schedule.
+   * @param players the players to send.
+   * @param playersPerTick the players per tick to send.
+   * @param values the values in the order of {@link #placeholders}.
+   *
+   * @return the task that sends the batches.
+   */
+  @NotNull
+  public BukkitTask broadcast(@NotNull final Plugin plugin, @NotNull final Collection<? extends Player> players,
+                              final int playersPerTick, @NotNull final String... values) {
+    return this.broadcast(plugin, players, playersPerTick, values, (player, playerValues) -> {
+    });
+  }
+
   /**
    * sends the title to the given player.
    *
@@ -137,6 +251,22 @@ public final class SentTitle {
       this.subTitle == null ? null : subTitle.apply(this.subTitle.build(entries)));
   }
 
+  /**
+   * sends the title to the given player with the placeholder values in the order of {@link #placeholders}.
+   * <p>
+   * the title and the sub title are compiled once against the same placeholders, so a value fills the same
+   * placeholder in both of them and only the final strings are created. the values array is not kept, so callers can
+   * reuse it.
+   *
+   * @param player the player to send.
+   * @param values the values to send in the order of {@link #placeholders}.
+   */
+  public void sendValues(@NotNull final Player player, @NotNull final String... values) {
+    Titles.sendTitle(player, this.fadeIn, this.stay, this.fadeOut,
+      this.compiledTitle == null ? null : this.compiledTitle.render(values),
+      this.compiledSubTitle == null ? null : this.compiledSubTitle.render(values));
+  }
+
   /**
    * a class that represents serializer of {@link SentTitle}.
    */
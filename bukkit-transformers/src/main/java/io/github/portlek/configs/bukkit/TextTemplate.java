@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents texts which are split into literal segments and placeholder slots once.
+ * <p>
+ * rendering fills the slots with the values in the order of the placeholders, so it does not scan the text again.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextTemplate {
+
+  /**
+   * the string builders of the threads.
+   */
+  private static final ThreadLocal<StringBuilder> BUILDERS = ThreadLocal.withInitial(StringBuilder::new);
+
+  /**
+   * the literal segments, one more than the slots.
+   */
+  @NotNull
+  private final String[] literals;
+
+  /**
+   * the placeholders.
+   */
+  @Getter
+  @NotNull
+  private final List<String> placeholders;
+
+  /**
+   * the placeholder indexes of the slots.
+   */
+  @NotNull
+  private final int[] slots;
+
+  /**
+   * compiles the text.
+   *
+   * @param text the text to compile.
+   * @param placeholders the placeholders to compile.
+   *
+   * @return compiled template.
+   */
+  @NotNull
+  public static TextTemplate compile(@NotNull final String text, @NotNull final Collection<String> placeholders) {
+    final var placeholderList = List.copyOf(placeholders);
+    final var literals = new ArrayList<String>();
+    final var slots = new ArrayList<Integer>();
+    var start = 0;
+    var index = 0;
+    while (index < text.length()) {
+      final var placeholder = TextTemplate.placeholderAt(text, index, placeholderList);
+      if (placeholder == -1) {
+        index++;
+        continue;
+      }
+      literals.add(text.substring(start, index));
+      slots.add(placeholder);
+      index += placeholderList.get(placeholder).length();
+      start = index;
+    }
+    literals.add(text.substring(start));
+    return new TextTemplate(
+      literals.toArray(String[]::new),
+      placeholderList,
+      slots.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  /**
+   * finds the longest placeholder that starts at the index.
+   *
+   * @param text the text to find.
+   * @param index the index to find.
+   * @param placeholders the placeholders to find.
+   *
+   * @return index of the placeholder or {@code -1} if there is none.
+   */
+  private static int placeholderAt(@NotNull final String text, final int index,
+                                   @NotNull final List<String> placeholders) {
+    var found = -1;
+    for (var placeholder = 0; placeholder < placeholders.size(); placeholder++) {
+      final var value = placeholders.get(placeholder);
+      if (!value.isEmpty() && text.startsWith(value, index)
+        && (found == -1 || value.length() > placeholders.get(found).length())) {
+        found = placeholder;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * binds the values into the literal segments.
+   * <p>
+   * the slots whose values are missing or {@code null} stay as slots, so the values that are the same for every
+   * render can be bound once and the rest is rendered for each render.
+   *
+   * @param values the values to bind in the order of {@link #placeholders}.
+   *
+   * @return a template which contains the rest of the slots.
+   */
+  @NotNull
+  public TextTemplate bind(@NotNull final String... values) {
+    final var literals = new ArrayList<String>();
+    final var slots = new ArrayList<Integer>();
+    final var current = new StringBuilder(this.literals[0]);
+    for (var index = 0; index < this.slots.length; index++) {
+      final var slot = this.slots[index];
+      final var value = slot < values.length
+        ? values[slot]
+        : null;
+      if (value == null) {
+        literals.add(current.toString());
+        slots.add(slot);
+        current.setLength(0);
+      } else {
+        current.append(value);
+      }
+      current.append(this.literals[index + 1]);
+    }
+    literals.add(current.toString());
+    return new TextTemplate(
+      literals.toArray(String[]::new),
+      this.placeholders,
+      slots.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  /**
+   * renders the template.
+   * <p>
+   * the slots whose values are missing or {@code null} keep their placeholders. the values array is not kept, so
+   * callers can reuse it.
+   *
+   * @param values the values to render in the order of {@link #placeholders}.
+   *
+   * @return rendered text.
+   */
+  @NotNull
+  public String render(@NotNull final String... values) {
+    if (this.slots.length == 0) {
+      return this.literals[0];
+    }
+    final var builder = TextTemplate.BUILDERS.get();
+    builder.setLength(0);
+    builder.append(this.literals[0]);
+    for (var index = 0; index < this.slots.length; index++) {
+      final var slot = this.slots[index];
+      final var value = slot < values.length
+        ? values[slot]
+        : null;
+      builder.append(value == null
+        ? this.placeholders.get(slot)
+        : value);
+      builder.append(this.literals[index + 1]);
+    }
+    return builder.toString();
+  }
+}
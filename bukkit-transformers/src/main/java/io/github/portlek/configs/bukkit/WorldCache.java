@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that controls the world references which are cached by {@link Position}.
+ * <p>
+ * positions cache their worlds only after {@link #register(Plugin)} is called, since the caches can be invalidated
+ * only when the world unloads are listened. the caching is disabled again when the registering plugin disables, since
+ * its listeners are unregistered by the server.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WorldCache {
+
+  /**
+   * the generation of the caches, it changes on every world unload.
+   */
+  private static final AtomicInteger GENERATION = new AtomicInteger();
+
+  /**
+   * the registered.
+   */
+  private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+  /**
+   * invalidates all the cached worlds.
+   */
+  public static void invalidate() {
+    WorldCache.GENERATION.incrementAndGet();
+  }
+
+  /**
+   * checks if the world caching is enabled.
+   *
+   * @return {@code true} if the unload listener is registered.
+   */
+  public static boolean isEnabled() {
+    return WorldCache.REGISTERED.get();
+  }
+
+  /**
+   * registers the unload listener and enables the world caching.
+   *
+   * @param plugin the plugin to register.
+   */
+  public static void register(@NotNull final Plugin plugin) {
+    if (WorldCache.REGISTERED.compareAndSet(false, true)) {
+      Bukkit.getPluginManager().registerEvents(new UnloadListener(plugin), plugin);
+    }
+  }
+
+  /**
+   * obtains the current generation.
+   *
+   * @return current generation.
+   */
+  static int generation() {
+    return WorldCache.GENERATION.get();
+  }
+
+  /**
+   * a class that represents listeners of the world unloads.
+   */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  static final class UnloadListener implements Listener {
+
+    /**
+     * the plugin.
+     */
+    @NotNull
+    private final Plugin plugin;
+
+    /**
+     * runs when a plugin disables.
+     *
+     * @param event the event to run.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(@NotNull final PluginDisableEvent event) {
+      if (event.getPlugin() == this.plugin) {
+        WorldCache.REGISTERED.set(false);
+        WorldCache.invalidate();
+      }
+    }
+
+    /**
+     * runs when a world unloads.
+     * <p>
+     * the event is called before the world is removed from the server, so a world that is looked up in between
+     * would be cached again. the caches are invalidated once more on the next tick, after the world is removed.
+     *
+     * @param event the event to run.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(@NotNull final WorldUnloadEvent event) {
+      WorldCache.invalidate();
+      if (this.plugin.isEnabled()) {
+        Bukkit.getScheduler().runTask(this.plugin, WorldCache::invalidate);
+      }
+    }
+  }
+}
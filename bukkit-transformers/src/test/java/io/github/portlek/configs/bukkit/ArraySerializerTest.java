@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.transformer.TransformedData;
+import java.util.Map;
+import java.util.Optional;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+final class ArraySerializerTest {
+
+  private static ItemStack item(final String id) {
+    final var item = Mockito.mock(ItemStack.class);
+    Mockito.when(item.serialize()).thenReturn(Map.of("id", id));
+    return item;
+  }
+
+  @Test
+  void readsOnlyTheBase64Entries() {
+    final var data = Mockito.mock(TransformedData.class);
+    Mockito.when(data.get("data", String.class)).thenReturn(Optional.of("readable"));
+    Assertions.assertTrue(new ItemStackCodec.ArraySerializer().deserialize(data, null).isEmpty());
+  }
+
+  @Test
+  void roundTripsTheArrays() {
+    final var first = ArraySerializerTest.item("first");
+    final var second = ArraySerializerTest.item("second");
+    final var serializer = new ItemStackCodec.ArraySerializer();
+    final var written = Mockito.mock(TransformedData.class);
+    serializer.serialize(new ItemStack[]{first, null, second}, written);
+    final var encoded = ArgumentCaptor.forClass(Object.class);
+    Mockito.verify(written).add(ArgumentMatchers.eq("base64"), encoded.capture());
+    final var read = Mockito.mock(TransformedData.class);
+    Mockito.when(read.get("base64", String.class)).thenReturn(Optional.of((String) encoded.getValue()));
+    try (final var deserialization = Mockito.mockStatic(ConfigurationSerialization.class)) {
+      deserialization.when(() -> ConfigurationSerialization.deserializeObject(ArgumentMatchers.any()))
+        .thenAnswer(invocation -> "first".equals(invocation.<Map<String, ?>>getArgument(0).get("id"))
+          ? first
+          : second);
+      Assertions.assertArrayEquals(new ItemStack[]{first, null, second},
+        serializer.deserialize(read, null).orElseThrow());
+    }
+  }
+}
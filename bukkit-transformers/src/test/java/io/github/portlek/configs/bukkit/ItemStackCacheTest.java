@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.configs.core.InMemoryInstrumentation;
+import java.io.IOException;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class ItemStackCacheTest {
+
+  private static ItemStack fail() throws IOException {
+    throw new IOException("The template is loaded again!");
+  }
+
+  private static ItemStack item() {
+    final var item = Mockito.mock(ItemStack.class);
+    final var copy = Mockito.mock(ItemStack.class);
+    Mockito.when(item.clone()).thenReturn(copy);
+    Mockito.when(copy.clone()).thenAnswer(invocation -> Mockito.mock(ItemStack.class));
+    return item;
+  }
+
+  @Test
+  void handsOutClonesOfTheTemplate() throws IOException {
+    final var cache = new ItemStackCache(4);
+    final var item = ItemStackCacheTest.item();
+    Assertions.assertSame(item, cache.get("data", () -> item));
+    final var first = cache.get("data", ItemStackCacheTest::fail);
+    final var second = cache.get("data", ItemStackCacheTest::fail);
+    Assertions.assertNotSame(item, first);
+    Assertions.assertNotSame(first, second);
+    Assertions.assertEquals(2L, cache.getHits());
+    Assertions.assertEquals(1L, cache.getMisses());
+  }
+
+  @Test
+  void removesTheLeastRecentlyUsedTemplates() throws IOException {
+    final var cache = new ItemStackCache(2);
+    cache.get("first", ItemStackCacheTest::item);
+    cache.get("second", ItemStackCacheTest::item);
+    cache.get("first", ItemStackCacheTest::item);
+    cache.get("third", ItemStackCacheTest::item);
+    Assertions.assertEquals(2, cache.size());
+    cache.get("first", ItemStackCacheTest::item);
+    Assertions.assertEquals(2L, cache.getHits());
+    cache.get("second", ItemStackCacheTest::item);
+    Assertions.assertEquals(4L, cache.getMisses());
+  }
+
+  @Test
+  void reportsTheAccessesToTheInstrumentation() throws IOException {
+    final var instrumentation = new InMemoryInstrumentation();
+    final var cache = new ItemStackCache(4, instrumentation, "shop");
+    cache.get("data", ItemStackCacheTest::item);
+    cache.get("data", ItemStackCacheTest::item);
+    cache.get("data", ItemStackCacheTest::item);
+    final var stats = instrumentation.getCacheStats("ItemStackCache", "shop").orElseThrow();
+    Assertions.assertEquals(2L, stats.getHits());
+    Assertions.assertEquals(1L, stats.getMisses());
+    Assertions.assertTrue(instrumentation.getAll().isEmpty());
+    Assertions.assertEquals(2.0d / 3.0d, cache.getHitRate(), 1.0e-9d);
+  }
+}
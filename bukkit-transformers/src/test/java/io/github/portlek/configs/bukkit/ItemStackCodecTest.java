@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+final class ItemStackCodecTest {
+
+  private final Map<String, ItemStack> items = new HashMap<>();
+
+  @Test
+  void decodesTheSingleItemStacks() throws IOException {
+    final var item = this.item("sword");
+    final var encoded = ItemStackCodec.encode(item);
+    try (final var ignored = this.deserialization()) {
+      Assertions.assertSame(item, ItemStackCodec.decode(encoded));
+    }
+  }
+
+  @Test
+  void keepsTheEmptySlots() throws IOException {
+    final var first = this.item("first");
+    final var second = this.item("second");
+    final var encoded = ItemStackCodec.encodeAll(new ItemStack[]{first, null, second, null});
+    try (final var ignored = this.deserialization()) {
+      Assertions.assertEquals(Arrays.asList(first, null, second, null), ItemStackCodec.decodeList(encoded));
+      Assertions.assertArrayEquals(new ItemStack[]{first, null, second, null}, ItemStackCodec.decodeArray(encoded));
+    }
+  }
+
+  @Test
+  void rejectsTheInvalidBlobs() throws IOException {
+    Assertions.assertThrows(IOException.class, () -> ItemStackCodec.decode("not base64!"));
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new BukkitObjectOutputStream(bytes)) {
+      output.writeObject(null);
+    }
+    final var encoded = Base64.getEncoder().encodeToString(bytes.toByteArray());
+    Assertions.assertThrows(IOException.class, () -> ItemStackCodec.decode(encoded));
+  }
+
+  @Test
+  void writesTheCountFirst() throws IOException {
+    final var encoded = ItemStackCodec.encodeAll(List.of(this.item("first"), this.item("second")));
+    try (final var input = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+      Assertions.assertEquals(2, input.readInt());
+    }
+    try (final var ignored = this.deserialization()) {
+      Assertions.assertTrue(ItemStackCodec.decodeList(ItemStackCodec.encodeAll(List.of())).isEmpty());
+    }
+  }
+
+  private MockedStatic<ConfigurationSerialization> deserialization() {
+    final var deserialization = Mockito.mockStatic(ConfigurationSerialization.class);
+    deserialization.when(() -> ConfigurationSerialization.deserializeObject(ArgumentMatchers.any()))
+      .thenAnswer(invocation -> this.items.get(invocation.<Map<String, ?>>getArgument(0).get("id")));
+    return deserialization;
+  }
+
+  private ItemStack item(final String id) {
+    final var item = Mockito.mock(ItemStack.class);
+    Mockito.when(item.serialize()).thenReturn(Map.of("id", id));
+    this.items.put(id, item);
+    return item;
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a class that benchmarks writing and reading lots of positions as json in the entry layouts of
+ * {@link Position.Format} and {@link PositionColumns}.
+ * <p>
+ * the entries are built and read the way the serializers do, so the numbers include the encoding, the document size
+ * and the parse cost of each layout. run with {@code -prof gc} to compare the allocations.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PositionBenchmark {
+
+  /**
+   * the layout.
+   */
+  @Param({"MAP", "STRING", "ARRAY", "COLUMNS"})
+  public String layout;
+
+  /**
+   * the position count.
+   */
+  @Param({"1000", "50000"})
+  public int positions;
+
+  /**
+   * the document.
+   */
+  private String document;
+
+  /**
+   * the gson.
+   */
+  private Gson gson;
+
+  /**
+   * the values.
+   */
+  private List<Position> values;
+
+  /**
+   * decodes the entries of the layout.
+   *
+   * @param layout the layout to decode.
+   * @param encoded the encoded to decode.
+   *
+   * @return decoded positions.
+   */
+  private static List<Position> decode(final String layout, final Object encoded) {
+    if ("COLUMNS".equals(layout)) {
+      final var columns = (Map<?, ?>) encoded;
+      final var worlds = (List<?>) columns.get("worlds");
+      final var world = (List<?>) columns.get("world");
+      final var xs = (List<?>) columns.get("x");
+      final var ys = (List<?>) columns.get("y");
+      final var zs = (List<?>) columns.get("z");
+      final var yaws = (List<?>) columns.get("yaw");
+      final var pitches = (List<?>) columns.get("pitch");
+      final var decoded = new ArrayList<Position>(world.size());
+      for (var index = 0; index < world.size(); index++) {
+        decoded.add(new Position((String) worlds.get(((Number) world.get(index)).intValue()),
+          ((Number) xs.get(index)).doubleValue(), ((Number) ys.get(index)).doubleValue(),
+          ((Number) zs.get(index)).doubleValue(), ((Number) pitches.get(index)).floatValue(),
+          ((Number) yaws.get(index)).floatValue()));
+      }
+      return PositionColumns.of(decoded);
+    }
+    final var entries = (List<?>) encoded;
+    final var decoded = new ArrayList<Position>(entries.size());
+    for (final var entry : entries) {
+      if ("STRING".equals(layout)) {
+        decoded.add(Position.fromCompactString((String) entry).orElseThrow());
+        continue;
+      }
+      final var map = (Map<?, ?>) entry;
+      if ("ARRAY".equals(layout)) {
+        final var array = (List<?>) map.get("values");
+        decoded.add(new Position((String) map.get("world"), ((Number) array.get(0)).doubleValue(),
+          ((Number) array.get(1)).doubleValue(), ((Number) array.get(2)).doubleValue(),
+          ((Number) array.get(4)).floatValue(), ((Number) array.get(3)).floatValue()));
+        continue;
+      }
+      decoded.add(new Position((String) map.get("world"), ((Number) map.get("x")).doubleValue(),
+        ((Number) map.get("y")).doubleValue(), ((Number) map.get("z")).doubleValue(),
+        ((Number) map.get("pitch")).floatValue(), ((Number) map.get("yaw")).floatValue()));
+    }
+    return decoded;
+  }
+
+  /**
+   * encodes the positions into the entries of the layout.
+   *
+   * @param layout the layout to encode.
+   * @param positions the positions to encode.
+   *
+   * @return encoded entries.
+   */
+  private static Object encode(final String layout, final List<Position> positions) {
+    if ("COLUMNS".equals(layout)) {
+      final var columns = PositionColumns.of(positions);
+      final var worlds = new ArrayList<String>();
+      final var world = new ArrayList<Integer>(columns.size());
+      final var xs = new ArrayList<Double>(columns.size());
+      final var ys = new ArrayList<Double>(columns.size());
+      final var zs = new ArrayList<Double>(columns.size());
+      final var yaws = new ArrayList<Float>(columns.size());
+      final var pitches = new ArrayList<Float>(columns.size());
+      for (final var position : columns) {
+        var worldIndex = worlds.indexOf(position.getWorldName());
+        if (worldIndex == -1) {
+          worlds.add(position.getWorldName());
+          worldIndex = worlds.size() - 1;
+        }
+        world.add(worldIndex);
+        xs.add(position.getX());
+        ys.add(position.getY());
+        zs.add(position.getZ());
+        yaws.add(position.getYaw());
+        pitches.add(position.getPitch());
+      }
+      final var encoded = new LinkedHashMap<String, Object>();
+      encoded.put("worlds", worlds);
+      encoded.put("world", world);
+      encoded.put("x", xs);
+      encoded.put("y", ys);
+      encoded.put("z", zs);
+      encoded.put("yaw", yaws);
+      encoded.put("pitch", pitches);
+      return encoded;
+    }
+    final var encoded = new ArrayList<>(positions.size());
+    for (final var position : positions) {
+      if ("STRING".equals(layout)) {
+        encoded.add(position.toCompactString());
+        continue;
+      }
+      final var map = new LinkedHashMap<String, Object>();
+      map.put("world", position.getWorldName());
+      if ("ARRAY".equals(layout)) {
+        map.put("values", List.<Number>of(position.getX(), position.getY(), position.getZ(), position.getYaw(),
+          position.getPitch()));
+      } else {
+        map.put("x", position.getX());
+        map.put("y", position.getY());
+        map.put("z", position.getZ());
+        map.put("yaw", position.getYaw());
+        map.put("pitch", position.getPitch());
+      }
+      encoded.add(map);
+    }
+    return encoded;
+  }
+
+  /**
+   * parses the document and decodes the positions.
+   *
+   * @return decoded positions.
+   */
+  @Benchmark
+  public List<Position> read() {
+    final var type = "COLUMNS".equals(this.layout) ? Map.class : List.class;
+    return PositionBenchmark.decode(this.layout, this.gson.fromJson(this.document, type));
+  }
+
+  /**
+   * creates the positions and the document.
+   */
+  @Setup
+  public void setup() {
+    final var random = new SplittableRandom(42L);
+    final var worlds = List.of("world", "world_nether", "world_the_end");
+    this.values = new ArrayList<>(this.positions);
+    for (var index = 0; index < this.positions; index++) {
+      this.values.add(new Position(worlds.get(random.nextInt(worlds.size())),
+        random.nextInt(-10_000, 10_000) + 0.5d, random.nextInt(0, 256), random.nextInt(-10_000, 10_000) + 0.5d,
+        (float) random.nextInt(-90, 90), (float) random.nextInt(-180, 180)));
+    }
+    this.gson = new Gson();
+    this.document = this.gson.toJson(PositionBenchmark.encode(this.layout, this.values));
+  }
+
+  /**
+   * encodes the positions and renders the document.
+   *
+   * @return document length.
+   */
+  @Benchmark
+  public int write() {
+    return this.gson.toJson(PositionBenchmark.encode(this.layout, this.values)).length();
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class PositionIndexTest {
+
+  private static final List<String> WORLDS = List.of("world", "nether", "end");
+
+  private static Set<Position> collect(final List<Position> positions, final Predicate<Position> filter) {
+    final var set = PositionIndexTest.identitySet();
+    positions.stream().filter(filter).forEach(set::add);
+    return set;
+  }
+
+  private static double distanceSquared(final Position position, final double x, final double y, final double z) {
+    final var dx = position.getX() - x;
+    final var dy = position.getY() - y;
+    final var dz = position.getZ() - z;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  private static Set<Position> identitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  private static List<Position> positions(final Random random, final int count, final int bound) {
+    final var positions = new ArrayList<Position>();
+    for (var index = 0; index < count; index++) {
+      positions.add(new Position(PositionIndexTest.WORLDS.get(random.nextInt(PositionIndexTest.WORLDS.size())),
+        random.nextInt(bound), random.nextInt(bound), random.nextInt(bound)));
+    }
+    return positions;
+  }
+
+  @Test
+  void findsTheBoxesLikeBruteForce() {
+    final var random = new Random(42L);
+    final var positions = PositionIndexTest.positions(random, 2_000, 16);
+    final var index = PositionIndex.of(positions);
+    for (var query = 0; query < 200; query++) {
+      final var world = PositionIndexTest.WORLDS.get(query % PositionIndexTest.WORLDS.size());
+      final var minX = random.nextInt(16);
+      final var minY = random.nextInt(16);
+      final var minZ = random.nextInt(16);
+      final var maxX = minX + random.nextInt(6);
+      final var maxY = minY + random.nextInt(6);
+      final var maxZ = minZ + random.nextInt(6);
+      final var found = PositionIndexTest.identitySet();
+      index.forEachInBox(world, minX, minY, minZ, maxX, maxY, maxZ, found::add);
+      Assertions.assertEquals(PositionIndexTest.collect(positions, position -> position.getWorldName().equals(world)
+        && position.getX() >= minX && position.getX() <= maxX
+        && position.getY() >= minY && position.getY() <= maxY
+        && position.getZ() >= minZ && position.getZ() <= maxZ), found);
+    }
+  }
+
+  @Test
+  void findsTheNearestLikeBruteForce() {
+    final var random = new Random(7L);
+    final var positions = PositionIndexTest.positions(random, 2_000, 16);
+    final var index = PositionIndex.of(positions);
+    for (var query = 0; query < 200; query++) {
+      final var world = PositionIndexTest.WORLDS.get(query % PositionIndexTest.WORLDS.size());
+      final var x = random.nextInt(20) - 2 + (query % 2 == 0 ? 0.0 : 0.5);
+      final var y = random.nextInt(20) - 2;
+      final var z = random.nextInt(20) - 2 + (query % 3 == 0 ? 0.0 : 0.25);
+      final var expected = positions.stream()
+        .filter(position -> position.getWorldName().equals(world))
+        .mapToDouble(position -> PositionIndexTest.distanceSquared(position, x, y, z))
+        .min()
+        .orElseThrow();
+      final var nearest = index.nearest(world, x, y, z);
+      Assertions.assertNotNull(nearest);
+      Assertions.assertEquals(world, nearest.getWorldName());
+      Assertions.assertEquals(expected, PositionIndexTest.distanceSquared(nearest, x, y, z));
+    }
+    Assertions.assertNull(index.nearest("missing", 0, 0, 0));
+  }
+
+  @Test
+  void findsTheRadiiLikeBruteForce() {
+    final var random = new Random(13L);
+    final var positions = PositionIndexTest.positions(random, 2_000, 16);
+    final var index = PositionIndex.of(positions);
+    for (var query = 0; query < 200; query++) {
+      final var world = PositionIndexTest.WORLDS.get(query % PositionIndexTest.WORLDS.size());
+      final var x = random.nextInt(16);
+      final var y = random.nextInt(16);
+      final var z = random.nextInt(16);
+      final var radius = random.nextInt(5);
+      final var found = PositionIndexTest.identitySet();
+      index.forEachWithin(world, x, y, z, radius, found::add);
+      Assertions.assertEquals(PositionIndexTest.collect(positions, position -> position.getWorldName().equals(world)
+        && PositionIndexTest.distanceSquared(position, x, y, z) <= radius * radius), found);
+    }
+  }
+
+  @Test
+  void keepsTheTiesAtTheMedian() {
+    final var positions = new ArrayList<Position>();
+    for (var index = 0; index < 9; index++) {
+      positions.add(new Position("world", 5, index % 3, 5));
+    }
+    positions.add(new Position("world", 4, 0, 5));
+    positions.add(new Position("world", 6, 0, 5));
+    positions.add(new Position("nether", 5, 0, 5));
+    final var index = PositionIndex.of(positions);
+    final var found = PositionIndexTest.identitySet();
+    index.forEachInBox("world", 5, 0, 5, 5, 2, 5, found::add);
+    Assertions.assertEquals(9, found.size());
+    found.clear();
+    index.forEachWithin("world", 5, 1, 5, 0, found::add);
+    Assertions.assertEquals(PositionIndexTest.collect(positions, position -> position.getWorldName().equals("world")
+      && position.getX() == 5 && position.getY() == 1), found);
+    Assertions.assertEquals(0.0, PositionIndexTest.distanceSquared(index.nearest("world", 5, 2, 5), 5, 2, 5));
+    Assertions.assertEquals("nether", index.nearest("nether", 5, 2, 5).getWorldName());
+    Assertions.assertEquals(12, index.size());
+  }
+}
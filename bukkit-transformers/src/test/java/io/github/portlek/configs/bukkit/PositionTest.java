@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import io.github.portlek.transformer.TransformedData;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+final class PositionTest {
+
+  private static TransformedData data() {
+    return Mockito.mock(TransformedData.class);
+  }
+
+  @Test
+  void keepsYawAndPitchInTheIntConstructor() {
+    final var position = new Position("world", 1, 2, 3, 10.0f, 20.0f);
+    Assertions.assertEquals(10.0f, position.getYaw());
+    Assertions.assertEquals(20.0f, position.getPitch());
+  }
+
+  @Test
+  void readsCompactStrings() {
+    final var position = new Position("my;world", 1.5d, 2.0d, -3.25d, 20.0f, 10.0f);
+    final var parsed = Position.fromCompactString(position.toCompactString()).orElseThrow();
+    Assertions.assertEquals("my;world", parsed.getWorldName());
+    Assertions.assertEquals(-3.25d, parsed.getZ());
+    Assertions.assertEquals(10.0f, parsed.getYaw());
+    Assertions.assertEquals(20.0f, parsed.getPitch());
+    Assertions.assertTrue(Position.fromCompactString("world;1;2;x;4;5").isEmpty());
+    Assertions.assertTrue(Position.fromCompactString("world;1;2").isEmpty());
+  }
+
+  @Test
+  void readsTheMapFormatWithoutExtraLookups() {
+    final var data = PositionTest.data();
+    Mockito.when(data.get("world", String.class)).thenReturn(Optional.of("world"));
+    Mockito.when(data.get("x", double.class)).thenReturn(Optional.of(1.0d));
+    Mockito.when(data.get("y", double.class)).thenReturn(Optional.of(2.0d));
+    Mockito.when(data.get("z", double.class)).thenReturn(Optional.of(3.0d));
+    Mockito.when(data.get("yaw", float.class)).thenReturn(Optional.of(10.0f));
+    Mockito.when(data.get("pitch", float.class)).thenReturn(Optional.of(20.0f));
+    final var position = new Position.Serializer().deserialize(data, null).orElseThrow();
+    Assertions.assertEquals(10.0f, position.getYaw());
+    Assertions.assertEquals(20.0f, position.getPitch());
+    Assertions.assertEquals(3.0d, position.getZ());
+    Mockito.verify(data, Mockito.never()).get(ArgumentMatchers.eq("value"), ArgumentMatchers.any());
+    Mockito.verify(data, Mockito.never()).get(ArgumentMatchers.eq("values"), ArgumentMatchers.any());
+  }
+
+  @Test
+  void readsTheOtherFormatsWithTheDefaultSerializer() {
+    final var compact = PositionTest.data();
+    Mockito.when(compact.get("value", String.class)).thenReturn(Optional.of("world;1.0;2.0;3.0;10.0;20.0"));
+    final var fromCompact = new Position.Serializer().deserialize(compact, null).orElseThrow();
+    Assertions.assertEquals(10.0f, fromCompact.getYaw());
+    Assertions.assertEquals(20.0f, fromCompact.getPitch());
+    final var array = PositionTest.data();
+    Mockito.when(array.get("world", String.class)).thenReturn(Optional.of("world"));
+    Mockito.when(array.get("values", List.class)).thenReturn(Optional.of(List.of(1.0d, 2.0d, 3.0d, 10.0d, 20.0d)));
+    final var fromArray = new Position.Serializer().deserialize(array, null).orElseThrow();
+    Assertions.assertEquals(10.0f, fromArray.getYaw());
+    Assertions.assertEquals(20.0f, fromArray.getPitch());
+  }
+
+  @Test
+  void returnsEmptyForMalformedNumbers() {
+    final var array = PositionTest.data();
+    Mockito.when(array.get("world", String.class)).thenReturn(Optional.of("world"));
+    Mockito.when(array.get("values", List.class)).thenReturn(Optional.of(List.of(1.0d, "two", 3.0d)));
+    Assertions.assertTrue(new Position.Serializer(Position.Format.ARRAY).deserialize(array, null).isEmpty());
+    final var columns = PositionTest.data();
+    Mockito.when(columns.get("worlds", List.class)).thenReturn(Optional.of(List.of("world")));
+    Mockito.when(columns.get("world", List.class)).thenReturn(Optional.of(List.of(0, "zero")));
+    Assertions.assertTrue(new PositionColumns.Serializer().deserialize(columns, null).isEmpty());
+    Mockito.when(columns.get("world", List.class)).thenReturn(Optional.of(List.of(0, 0)));
+    Mockito.when(columns.get("x", List.class)).thenReturn(Optional.of(List.of(1.0d, "x")));
+    Assertions.assertTrue(new PositionColumns.Serializer().deserialize(columns, null).isEmpty());
+  }
+
+  @Test
+  void storesPositionsAsColumns() {
+    final var positions = List.of(
+      new Position("world", 1.0d, 2.0d, 3.0d, 20.0f, 10.0f),
+      new Position("nether", 4.0d, 5.0d, 6.0d, 0.0f, 90.0f),
+      new Position("world", 7.0d, 8.0d, 9.0d, -20.0f, 180.0f));
+    final var columns = PositionColumns.of(positions);
+    Assertions.assertEquals(3, columns.size());
+    for (var index = 0; index < positions.size(); index++) {
+      final var expected = positions.get(index);
+      final var actual = columns.get(index);
+      Assertions.assertEquals(expected.getWorldName(), actual.getWorldName());
+      Assertions.assertEquals(expected.getX(), actual.getX());
+      Assertions.assertEquals(expected.getYaw(), actual.getYaw());
+      Assertions.assertEquals(expected.getPitch(), actual.getPitch());
+    }
+  }
+}
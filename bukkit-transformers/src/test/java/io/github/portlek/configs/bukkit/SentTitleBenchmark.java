@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import com.cryptomorin.xseries.messages.Titles;
+import io.github.portlek.replaceable.RpString;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks rendering a title for every player of a broadcast.
+ * <p>
+ * the packets are not sent, so the numbers contain only the text that {@link SentTitle} creates for the players.
+ * {@code bound} runs the task of {@link SentTitle#broadcast(Plugin, Collection, int, String[], BiConsumer)} over mocked
+ * players, so its numbers contain the calls to the mocks too. run with {@code -prof gc} to compare the allocations.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SentTitleBenchmark {
+
+  /**
+   * the player count.
+   */
+  @Param("500")
+  public int players;
+
+  /**
+   * the player names.
+   */
+  private String[] names;
+
+  /**
+   * the plugin.
+   */
+  private Plugin plugin;
+
+  /**
+   * the players.
+   */
+  private List<Player> targets;
+
+  /**
+   * the task that the last broadcast scheduled.
+   */
+  private Runnable task;
+
+  /**
+   * the title.
+   */
+  private SentTitle title;
+
+  /**
+   * the static mock of the titles.
+   */
+  private MockedStatic<Titles> titles;
+
+  /**
+   * renders the titles by broadcasting them to every player in one tick.
+   */
+  @Benchmark
+  public void bound() {
+    this.title.broadcast(this.plugin, this.targets, this.players, new String[]{"Arena", "5", null},
+      (player, values) -> values[2] = player.getName());
+    this.task.run();
+  }
+
+  /**
+   * closes the static mock of the titles.
+   */
+  @TearDown
+  public void close() {
+    this.titles.close();
+  }
+
+  /**
+   * renders the titles by replacing the placeholders of the texts for every player.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public void replaced(final Blackhole blackhole) {
+    for (final var name : this.names) {
+      final Map.Entry<String, Supplier<String>>[] entries = new Map.Entry[]{
+        Map.<String, Supplier<String>>entry("%arena%", () -> "Arena"),
+        Map.<String, Supplier<String>>entry("%player%", () -> name),
+        Map.<String, Supplier<String>>entry("%time%", () -> "5")};
+      blackhole.consume(this.title.getTitle().build(entries));
+      blackhole.consume(this.title.getSubTitle().build(entries));
+    }
+  }
+
+  /**
+   * renders the titles with the values of every player.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void rendered(final Blackhole blackhole) {
+    final var values = new String[this.title.getPlaceholders().size()];
+    values[0] = "Arena";
+    values[1] = "5";
+    for (final var name : this.names) {
+      values[2] = name;
+      blackhole.consume(this.title.getCompiledTitle().render(values));
+      blackhole.consume(this.title.getCompiledSubTitle().render(values));
+    }
+  }
+
+  /**
+   * creates the title and the player names.
+   */
+  @Setup
+  public void setup() {
+    this.title = new SentTitle(
+      RpString.from("&6%arena% &7starts in &e%time%").regex("%arena%", "%time%"),
+      RpString.from("&7Good luck, &a%player%&7! (%arena%)").regex("%player%", "%arena%"),
+      10, 40, 10);
+    this.names = new String[this.players];
+    this.targets = new ArrayList<>(this.players);
+    for (var index = 0; index < this.players; index++) {
+      this.names[index] = "player" + index;
+      final var player = Mockito.mock(Player.class, Mockito.withSettings().stubOnly());
+      Mockito.when(player.getName()).thenReturn(this.names[index]);
+      Mockito.when(player.isOnline()).thenReturn(true);
+      this.targets.add(player);
+    }
+    final var task = Mockito.mock(BukkitTask.class, Mockito.withSettings().stubOnly());
+    final var scheduler = Mockito.mock(BukkitScheduler.class, Mockito.withSettings().stubOnly());
+    Mockito.when(scheduler.runTaskTimer(ArgumentMatchers.any(Plugin.class), ArgumentMatchers.any(Runnable.class),
+      ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong())).thenAnswer(invocation -> {
+      this.task = invocation.getArgument(1);
+      return task;
+    });
+    Mockito.when(MockServer.reset().getScheduler()).thenReturn(scheduler);
+    this.plugin = Mockito.mock(Plugin.class, Mockito.withSettings().stubOnly());
+    this.titles = Mockito.mockStatic(Titles.class, Mockito.withSettings().stubOnly());
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import com.cryptomorin.xseries.messages.Titles;
+import io.github.portlek.replaceable.RpString;
+import java.util.List;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+final class SentTitleTest {
+
+  private static Player player(final String name) {
+    final var player = Mockito.mock(Player.class);
+    Mockito.when(player.getName()).thenReturn(name);
+    Mockito.when(player.isOnline()).thenReturn(true);
+    return player;
+  }
+
+  private static SentTitle title() {
+    return new SentTitle(
+      RpString.from("%a% %b%").regex("%a%", "%b%"),
+      RpString.from("%c% %a%").regex("%c%", "%a%"),
+      1, 2, 3);
+  }
+
+  @Test
+  void bindsTheSharedValuesInThePlaceholderOrder() {
+    final var scheduler = Mockito.mock(BukkitScheduler.class);
+    Mockito.when(MockServer.reset().getScheduler()).thenReturn(scheduler);
+    final var plugin = Mockito.mock(Plugin.class);
+    final var first = SentTitleTest.player("first");
+    final var second = SentTitleTest.player("second");
+    try (final var titles = Mockito.mockStatic(Titles.class)) {
+      SentTitleTest.title().broadcast(plugin, List.of(first, second), 1, new String[]{"A", null, null},
+        (player, values) -> {
+          values[1] = "B";
+          values[2] = player.getName();
+        });
+      final var task = ArgumentCaptor.forClass(Runnable.class);
+      Mockito.verify(scheduler).runTaskTimer(ArgumentMatchers.eq(plugin), task.capture(),
+        ArgumentMatchers.eq(0L), ArgumentMatchers.eq(1L));
+      task.getValue().run();
+      titles.verify(() -> Titles.sendTitle(first, 1, 2, 3, "A B", "first A"));
+      titles.verify(() -> Titles.sendTitle(second, 1, 2, 3, "A B", "second A"), Mockito.never());
+      task.getValue().run();
+      titles.verify(() -> Titles.sendTitle(second, 1, 2, 3, "A B", "second A"));
+    }
+  }
+
+  @Test
+  void compilesBothAgainstTheSamePlaceholders() {
+    final var title = SentTitleTest.title();
+    Assertions.assertEquals(List.of("%a%", "%b%", "%c%"), title.getPlaceholders());
+    Assertions.assertEquals("A B", title.getCompiledTitle().render("A", "B", "C"));
+    Assertions.assertEquals("C A", title.getCompiledSubTitle().render("A", "B", "C"));
+  }
+
+  @Test
+  void sendsTheValuesInThePlaceholderOrder() {
+    final var player = SentTitleTest.player("player");
+    try (final var titles = Mockito.mockStatic(Titles.class)) {
+      SentTitleTest.title().sendValues(player, "A", "B", "C");
+      titles.verify(() -> Titles.sendTitle(player, 1, 2, 3, "A B", "C A"));
+    }
+  }
+
+  @Test
+  void usesTheOnlyTitlePlaceholders() {
+    final var title = new SentTitle(RpString.from("%a%").regex("%a%"), null, 1, 2, 3);
+    Assertions.assertEquals(List.of("%a%"), title.getPlaceholders());
+    Assertions.assertNull(title.getCompiledSubTitle());
+    Assertions.assertEquals("A", title.getCompiledTitle().render("A"));
+  }
+}
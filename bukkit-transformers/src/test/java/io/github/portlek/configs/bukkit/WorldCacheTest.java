@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.bukkit;
+
+import java.util.List;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+final class WorldCacheTest {
+
+  private Plugin plugin;
+
+  private PluginManager pluginManager;
+
+  private BukkitScheduler scheduler;
+
+  private Server server;
+
+  private World world;
+
+  @AfterEach
+  void disable() {
+    if (WorldCache.isEnabled()) {
+      this.listener().onPluginDisable(new PluginDisableEvent(this.plugin));
+    }
+  }
+
+  @Test
+  void cachesTheWorldUntilAWorldUnloads() {
+    WorldCache.register(this.plugin);
+    final var position = new Position("world", 1.0d, 2.0d, 3.0d);
+    Assertions.assertSame(this.world, position.getWorld());
+    Assertions.assertSame(this.world, position.getWorld());
+    Mockito.verify(this.server, Mockito.times(1)).getWorld("world");
+    this.listener().onWorldUnload(new WorldUnloadEvent(this.world));
+    Assertions.assertSame(this.world, position.getWorld());
+    Mockito.verify(this.server, Mockito.times(2)).getWorld("world");
+  }
+
+  @Test
+  void disablesTheCachingWhenThePluginDisables() {
+    WorldCache.register(this.plugin);
+    this.listener().onPluginDisable(new PluginDisableEvent(Mockito.mock(Plugin.class)));
+    Assertions.assertTrue(WorldCache.isEnabled());
+    this.listener().onPluginDisable(new PluginDisableEvent(this.plugin));
+    Assertions.assertFalse(WorldCache.isEnabled());
+    final var position = new Position("world", 1.0d, 2.0d, 3.0d);
+    position.getWorld();
+    position.getWorld();
+    Mockito.verify(this.server, Mockito.times(2)).getWorld("world");
+    WorldCache.register(this.plugin);
+    Assertions.assertTrue(WorldCache.isEnabled());
+    Mockito.verify(this.pluginManager, Mockito.times(2))
+      .registerEvents(ArgumentMatchers.any(Listener.class), ArgumentMatchers.eq(this.plugin));
+  }
+
+  @Test
+  void invalidatesAgainOnTheNextTick() {
+    WorldCache.register(this.plugin);
+    final var position = new Position("world", 1.0d, 2.0d, 3.0d);
+    this.listener().onWorldUnload(new WorldUnloadEvent(this.world));
+    final var task = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.verify(this.scheduler).runTask(ArgumentMatchers.eq(this.plugin), task.capture());
+    Assertions.assertSame(this.world, position.getWorld());
+    Mockito.when(this.server.getWorld("world")).thenReturn(null);
+    Assertions.assertSame(this.world, position.getWorld());
+    task.getValue().run();
+    Assertions.assertNull(position.getWorld());
+    Mockito.verify(this.server, Mockito.times(2)).getWorld("world");
+  }
+
+  @Test
+  void registersTheListenerOnce() {
+    WorldCache.register(this.plugin);
+    WorldCache.register(this.plugin);
+    Assertions.assertTrue(WorldCache.isEnabled());
+    Mockito.verify(this.pluginManager, Mockito.times(1))
+      .registerEvents(ArgumentMatchers.any(Listener.class), ArgumentMatchers.eq(this.plugin));
+  }
+
+  @BeforeEach
+  void setup() {
+    this.server = MockServer.reset();
+    this.plugin = Mockito.mock(Plugin.class);
+    this.pluginManager = Mockito.mock(PluginManager.class);
+    this.scheduler = Mockito.mock(BukkitScheduler.class);
+    this.world = Mockito.mock(World.class);
+    Mockito.when(this.plugin.isEnabled()).thenReturn(true);
+    Mockito.when(this.server.getPluginManager()).thenReturn(this.pluginManager);
+    Mockito.when(this.server.getScheduler()).thenReturn(this.scheduler);
+    Mockito.when(this.server.getWorld("world")).thenReturn(this.world);
+  }
+
+  private WorldCache.UnloadListener listener() {
+    final var listener = ArgumentCaptor.forClass(Listener.class);
+    Mockito.verify(this.pluginManager, Mockito.atLeastOnce())
+      .registerEvents(listener.capture(), ArgumentMatchers.eq(this.plugin));
+    final List<Listener> listeners = listener.getAllValues();
+    return (WorldCache.UnloadListener) listeners.get(listeners.size() - 1);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.TransformResolver;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.Map;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains utility methods for {@link BatchWritable} implementations.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchValues {
+
+  /**
+   * serializes the values in one pass.
+   * <p>
+   * the values are serialized with the declared generic types of their paths, like the fields are in
+   * {@code setValue}. the paths without a declared type are serialized by their runtime classes without creating a
+   * declaration for each value.
+   *
+   * @param resolver the resolver to serialize.
+   * @param values the values to serialize.
+   * @param genericTypes the declared generic types of the paths.
+   * @param skip the skip to check paths that must not be serialized.
+   *
+   * @return serialized values in the order of the given values.
+   */
+  @NotNull
+  public static Map<String, Object> serialize(@NotNull final TransformResolver resolver,
+                                              @NotNull final Map<String, ?> values,
+                                              @NotNull final Map<String, GenericDeclaration> genericTypes,
+                                              @NotNull final Predicate<String> skip) {
+    final var serialized = HomogeneousMaps.<String, Object>newMap(values.size());
+    values.forEach((path, value) -> {
+      if (skip.test(path)) {
+        return;
+      }
+      serialized.put(path, resolver.serialize(value, genericTypes.get(path), true));
+    });
+    return serialized;
+  }
+}
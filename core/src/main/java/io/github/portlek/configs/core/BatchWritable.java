@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an interface to determine resolvers that can serialize and insert several values in one pass.
+ */
+public interface BatchWritable {
+
+  /**
+   * sets the values whose paths do not exist yet.
+   *
+   * @param defaults the defaults to merge.
+   * @param genericTypes the declared generic types of the paths, the paths without one are serialized by their
+   *   runtime class.
+   *
+   * @return the paths that are set.
+   */
+  @NotNull
+  List<String> mergeDefaults(@NotNull Map<String, ?> defaults, @NotNull Map<String, GenericDeclaration> genericTypes);
+
+  /**
+   * sets the values whose paths do not exist yet, by their runtime classes.
+   *
+   * @param defaults the defaults to merge.
+   *
+   * @return the paths that are set.
+   */
+  @NotNull
+  default List<String> mergeDefaults(@NotNull final Map<String, ?> defaults) {
+    return this.mergeDefaults(defaults, Map.of());
+  }
+
+  /**
+   * sets all the values.
+   *
+   * @param values the values to set.
+   * @param genericTypes the declared generic types of the paths, the paths without one are serialized by their
+   *   runtime class.
+   */
+  void setValues(@NotNull Map<String, ?> values, @NotNull Map<String, GenericDeclaration> genericTypes);
+
+  /**
+   * sets all the values by their runtime classes.
+   *
+   * @param values the values to set.
+   */
+  default void setValues(@NotNull final Map<String, ?> values) {
+    this.setValues(values, Map.of());
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains the accesses of a cache.
+ */
+@RequiredArgsConstructor
+public final class CacheStats {
+
+  /**
+   * the cache.
+   */
+  @Getter
+  @NotNull
+  private final String cache;
+
+  /**
+   * the hits.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * the misses.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * the name.
+   */
+  @Getter
+  @NotNull
+  private final String name;
+
+  /**
+   * obtains the hits.
+   *
+   * @return hits.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * obtains the misses.
+   *
+   * @return misses.
+   */
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  /**
+   * records an access.
+   *
+   * @param hit the hit to record.
+   */
+  void addAccess(final boolean hit) {
+    if (hit) {
+      this.hits.increment();
+    } else {
+      this.misses.increment();
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that notifies the listeners with the paths that changed on reload.
+ * <p>
+ * the first load of a new or reset resolver is not a reload, it only sets the values to compare the next reloads
+ * with, so it does not report every path as added.
+ */
+public final class ChangeNotifier {
+
+  /**
+   * the listeners.
+   */
+  private final List<Consumer<ConfigChange>> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * the loaded.
+   */
+  private volatile boolean loaded;
+
+  /**
+   * adds the listener.
+   *
+   * @param listener the listener to add.
+   */
+  public void addListener(@NotNull final Consumer<ConfigChange> listener) {
+    this.listeners.add(listener);
+  }
+
+  /**
+   * checks if there is any listener, so the callers can skip preparing the value trees.
+   *
+   * @return {@code true} if there is at least one listener.
+   */
+  public boolean hasListeners() {
+    return !this.listeners.isEmpty();
+  }
+
+  /**
+   * checks if the next load is a reload which has listeners, so the callers can skip preparing the value trees.
+   *
+   * @return {@code true} if the next load is compared with the current values.
+   */
+  public boolean isObserving() {
+    return this.loaded && !this.listeners.isEmpty();
+  }
+
+  /**
+   * marks the resolver as loaded without comparing the value trees, for the callers which skipped preparing them.
+   */
+  public void onLoad() {
+    this.loaded = true;
+  }
+
+  /**
+   * computes the changes between the value trees and notifies the listeners if anything changed.
+   *
+   * @param before the before to compare.
+   * @param after the after to compare.
+   */
+  public void onReload(@NotNull final Map<?, ?> before, @NotNull final Map<?, ?> after) {
+    final var reload = this.loaded;
+    this.loaded = true;
+    if (!reload || this.listeners.isEmpty()) {
+      return;
+    }
+    final var change = ConfigChange.between(before, after);
+    if (change.isEmpty()) {
+      return;
+    }
+    this.listeners.forEach(listener -> listener.accept(change));
+  }
+
+  /**
+   * removes the listener.
+   *
+   * @param listener the listener to remove.
+   */
+  public void removeListener(@NotNull final Consumer<ConfigChange> listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * removes the listeners and forgets the loaded values, so the next load is not reported as a reload.
+   */
+  public void reset() {
+    this.listeners.clear();
+    this.loaded = false;
+  }
+}
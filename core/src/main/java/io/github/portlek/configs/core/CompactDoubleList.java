@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents read-only lists which are backed by {@code double} arrays.
+ */
+@RequiredArgsConstructor
+public final class CompactDoubleList extends AbstractList<Double> implements RandomAccess {
+
+  /**
+   * the values.
+   */
+  @NotNull
+  private final double[] values;
+
+  @Override
+  public Double get(final int index) {
+    return this.values[index];
+  }
+
+  /**
+   * gets the value at the index without boxing.
+   *
+   * @param index the index to get.
+   *
+   * @return value.
+   */
+  public double getDouble(final int index) {
+    return this.values[index];
+  }
+
+  @Override
+  public int size() {
+    return this.values.length;
+  }
+
+  /**
+   * copies the values into a new array.
+   *
+   * @return copied values.
+   */
+  @NotNull
+  public double[] toDoubleArray() {
+    return Arrays.copyOf(this.values, this.values.length);
+  }
+}
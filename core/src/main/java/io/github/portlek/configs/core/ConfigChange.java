@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents the changed paths between two value trees.
+ * <p>
+ * nested maps are compared key by key and their paths are joined with dots, other values are compared as a whole.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConfigChange {
+
+  /**
+   * the added paths.
+   */
+  @NotNull
+  private final List<String> added;
+
+  /**
+   * the modified paths.
+   */
+  @NotNull
+  private final List<String> modified;
+
+  /**
+   * the removed paths.
+   */
+  @NotNull
+  private final List<String> removed;
+
+  /**
+   * computes the changes between the value trees.
+   *
+   * @param before the before to compute.
+   * @param after the after to compute.
+   *
+   * @return changes.
+   */
+  @NotNull
+  public static ConfigChange between(@NotNull final Map<?, ?> before, @NotNull final Map<?, ?> after) {
+    final var added = new ArrayList<String>();
+    final var modified = new ArrayList<String>();
+    final var removed = new ArrayList<String>();
+    ConfigChange.compare(null, before, after, added, modified, removed);
+    return new ConfigChange(
+      Collections.unmodifiableList(added),
+      Collections.unmodifiableList(modified),
+      Collections.unmodifiableList(removed));
+  }
+
+  /**
+   * compares the maps and collects the changed paths.
+   *
+   * @param parent the parent path to compare.
+   * @param before the before to compare.
+   * @param after the after to compare.
+   * @param added the added paths to collect.
+   * @param modified the modified paths to collect.
+   * @param removed the removed paths to collect.
+   */
+  private static void compare(@Nullable final String parent, @NotNull final Map<?, ?> before,
+                              @NotNull final Map<?, ?> after, @NotNull final List<String> added,
+                              @NotNull final List<String> modified, @NotNull final List<String> removed) {
+    before.forEach((key, beforeValue) -> {
+      final var path = parent == null ? String.valueOf(key) : parent + '.' + key;
+      if (!after.containsKey(key)) {
+        removed.add(path);
+        return;
+      }
+      final var afterValue = after.get(key);
+      if (beforeValue == afterValue) {
+        return;
+      }
+      if (beforeValue instanceof Map<?, ?> && afterValue instanceof Map<?, ?>) {
+        ConfigChange.compare(path, (Map<?, ?>) beforeValue, (Map<?, ?>) afterValue, added, modified, removed);
+      } else if (!Objects.equals(beforeValue, afterValue)) {
+        modified.add(path);
+      }
+    });
+    after.keySet().forEach(key -> {
+      if (!before.containsKey(key)) {
+        added.add(parent == null ? String.valueOf(key) : parent + '.' + key);
+      }
+    });
+  }
+
+  /**
+   * checks if there is no change.
+   *
+   * @return {@code true} if nothing is added, modified or removed.
+   */
+  public boolean isEmpty() {
+    return this.added.isEmpty() && this.modified.isEmpty() && this.removed.isEmpty();
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that memoizes deserialized values by their path and target type until the path changes.
+ * <p>
+ * the memoized values are shared between the readers, so they should not be mutated. the resolvers have to invalidate
+ * the paths after they mutate them, a value which is deserialized while an invalidation happens is not memoized.
+ * <p>
+ * the values are kept sorted by their paths, so the children of a path are found with a range lookup instead of a scan
+ * over all the memoized paths.
+ */
+public final class DeserializationMemo {
+
+  /**
+   * the null value.
+   */
+  private static final Object NULL = new Object();
+
+  /**
+   * the hits.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * the misses.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * the memoized values by path.
+   */
+  private final ConcurrentNavigableMap<String, Map<Target, Object>> values = new ConcurrentSkipListMap<>();
+
+  /**
+   * the version which changes on every invalidation.
+   */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * gets the memoized value or deserializes and memoizes it.
+   *
+   * @param path the path to get.
+   * @param targetClass the target class to get.
+   * @param genericTarget the generic target to get.
+   * @param deserializer the deserializer to run on misses.
+   * @param <T> type of the value.
+   *
+   * @return deserialized value.
+   */
+  @Nullable
+  public <T> T get(@NotNull final String path, @NotNull final Class<T> targetClass,
+                   @Nullable final GenericDeclaration genericTarget, @NotNull final Supplier<T> deserializer) {
+    final var target = new Target(targetClass, genericTarget);
+    final var memoized = this.values.computeIfAbsent(path, key -> new ConcurrentHashMap<>()).get(target);
+    if (memoized != null) {
+      this.hits.increment();
+      //noinspection unchecked
+      return memoized == DeserializationMemo.NULL ? null : (T) memoized;
+    }
+    this.misses.increment();
+    final var version = this.version.get();
+    final var value = deserializer.get();
+    final var memoizedValues = this.values.computeIfAbsent(path, key -> new ConcurrentHashMap<>());
+    if (version != this.version.get()) {
+      return value;
+    }
+    final var memoizedValue = value == null ? DeserializationMemo.NULL : value;
+    memoizedValues.put(target, memoizedValue);
+    if (version != this.version.get()) {
+      memoizedValues.remove(target, memoizedValue);
+    }
+    return value;
+  }
+
+  /**
+   * obtains the hit count.
+   *
+   * @return hit count.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * obtains the miss count.
+   *
+   * @return miss count.
+   */
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  /**
+   * invalidates the memoized values of the path, its parents and its children.
+   * <p>
+   * has to be called after the path is mutated.
+   *
+   * @param path the path to invalidate.
+   */
+  public void invalidate(@NotNull final String path) {
+    this.version.incrementAndGet();
+    this.values.remove(path);
+    this.values.subMap(path + '.', path + (char) ('.' + 1)).clear();
+    for (var index = path.lastIndexOf('.'); index > 0; index = path.lastIndexOf('.', index - 1)) {
+      this.values.remove(path.substring(0, index));
+    }
+  }
+
+  /**
+   * invalidates all the memoized values.
+   * <p>
+   * has to be called after the values are replaced.
+   */
+  public void invalidateAll() {
+    this.version.incrementAndGet();
+    this.values.clear();
+  }
+
+  /**
+   * a class that represents target types of the memoized values.
+   */
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class Target {
+
+    /**
+     * the target class.
+     */
+    @NotNull
+    private final Class<?> targetClass;
+
+    /**
+     * the generic target.
+     */
+    @Nullable
+    private final GenericDeclaration genericTarget;
+  }
+}
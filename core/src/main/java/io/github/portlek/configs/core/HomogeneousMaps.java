@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.TransformResolver;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that contains utility methods for maps whose keys are strings and values are simple types.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HomogeneousMaps {
+
+  /**
+   * copies the map as it is if the declarations say that the keys are strings and the values are strings or
+   * primitives, and the registry of the resolver has no serializer for the value type.
+   *
+   * @param resolver the resolver to check.
+   * @param value the value to copy.
+   * @param keyDeclaration the key declaration to check.
+   * @param valueDeclaration the value declaration to check.
+   * @param conservative the conservative to check.
+   *
+   * @return copied map or {@code null} if the map has to be serialized entry by entry.
+   */
+  @Nullable
+  public static Map<Object, Object> copy(@NotNull final TransformResolver resolver,
+                                         @NotNull final Map<Object, Object> value,
+                                         @Nullable final GenericDeclaration keyDeclaration,
+                                         @Nullable final GenericDeclaration valueDeclaration,
+                                         final boolean conservative) {
+    if (keyDeclaration == null || valueDeclaration == null || keyDeclaration.getType() != String.class) {
+      return null;
+    }
+    final var valueType = valueDeclaration.getType();
+    if (valueType == null || !SerializationDecision.isPassThrough(resolver, valueType, conservative)) {
+      return null;
+    }
+    final var wrappedValueType = MethodType.methodType(valueType).wrap().returnType();
+    final var map = HomogeneousMaps.newMap(value.size());
+    for (final var entry : value.entrySet()) {
+      final var key = entry.getKey();
+      final var entryValue = entry.getValue();
+      if (!(key instanceof String) || entryValue != null && entryValue.getClass() != wrappedValueType) {
+        return null;
+      }
+      map.put(key, entryValue);
+    }
+    return map;
+  }
+
+  /**
+   * creates a new map which can hold the expected size without resizing.
+   *
+   * @param expectedSize the expected size to create.
+   * @param <K> type of the keys.
+   * @param <V> type of the values.
+   *
+   * @return a new map.
+   */
+  @NotNull
+  public static <K, V> Map<K, V> newMap(final int expectedSize) {
+    return new LinkedHashMap<>((int) (expectedSize / 0.75f) + 1);
+  }
+}
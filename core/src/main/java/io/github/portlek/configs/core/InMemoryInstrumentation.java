@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that keeps the measurements of the resolvers in memory, with percentile histograms of the durations.
+ * <p>
+ * the accesses of the caches are kept apart from the resolvers, as {@link CacheStats}.
+ */
+public final class InMemoryInstrumentation implements Instrumentation {
+
+  /**
+   * the listeners of the new cache stats.
+   */
+  private final List<Consumer<CacheStats>> cacheListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * the cache stats by cache and name.
+   */
+  private final Map<String, Map<String, CacheStats>> caches = new ConcurrentHashMap<>();
+
+  /**
+   * the listeners of the new stats.
+   */
+  private final List<Consumer<ResolverStats>> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * the stats by resolver and file.
+   */
+  private final Map<String, Map<String, ResolverStats>> stats = new ConcurrentHashMap<>();
+
+  /**
+   * adds the listener which is called once for every new cache and name.
+   *
+   * @param listener the listener to add.
+   */
+  public void addCacheListener(@NotNull final Consumer<CacheStats> listener) {
+    this.cacheListeners.add(listener);
+  }
+
+  /**
+   * adds the listener which is called once for every new resolver and file.
+   *
+   * @param listener the listener to add.
+   */
+  public void addListener(@NotNull final Consumer<ResolverStats> listener) {
+    this.listeners.add(listener);
+  }
+
+  /**
+   * obtains the stats of all the resolvers and files.
+   *
+   * @return stats.
+   */
+  @NotNull
+  public Collection<ResolverStats> getAll() {
+    final var all = new ArrayList<ResolverStats>();
+    this.stats.values().forEach(files -> all.addAll(files.values()));
+    return Collections.unmodifiableList(all);
+  }
+
+  /**
+   * obtains the stats of all the caches.
+   *
+   * @return cache stats.
+   */
+  @NotNull
+  public Collection<CacheStats> getAllCaches() {
+    final var all = new ArrayList<CacheStats>();
+    this.caches.values().forEach(names -> all.addAll(names.values()));
+    return Collections.unmodifiableList(all);
+  }
+
+  /**
+   * obtains the stats of the cache and name.
+   *
+   * @param cache the cache to obtain.
+   * @param name the name to obtain.
+   *
+   * @return cache stats.
+   */
+  @NotNull
+  public Optional<CacheStats> getCacheStats(@NotNull final String cache, @NotNull final String name) {
+    final var names = this.caches.get(cache);
+    return names == null
+      ? Optional.empty()
+      : Optional.ofNullable(names.get(name));
+  }
+
+  /**
+   * obtains the stats of the resolver and file.
+   *
+   * @param resolver the resolver to obtain.
+   * @param file the file to obtain.
+   *
+   * @return stats.
+   */
+  @NotNull
+  public Optional<ResolverStats> getStats(@NotNull final String resolver, @NotNull final String file) {
+    final var files = this.stats.get(resolver);
+    return files == null
+      ? Optional.empty()
+      : Optional.ofNullable(files.get(file));
+  }
+
+  @Override
+  public void onBytesRead(@NotNull final String resolver, @NotNull final String file, final long bytes) {
+    this.stats(resolver, file).addBytesRead(bytes);
+  }
+
+  @Override
+  public void onBytesWritten(@NotNull final String resolver, @NotNull final String file, final long bytes) {
+    this.stats(resolver, file).addBytesWritten(bytes);
+  }
+
+  @Override
+  public void onCacheAccess(@NotNull final String cache, @NotNull final String name, final boolean hit) {
+    this.cacheStats(cache, name).addAccess(hit);
+  }
+
+  @Override
+  public void onDuration(@NotNull final String resolver, @NotNull final String file,
+                         @NotNull final Operation operation, final long nanos) {
+    this.stats(resolver, file).getDurations(operation).record(nanos);
+  }
+
+  @Override
+  public void onLoaded(@NotNull final String resolver, @NotNull final String file, final int keys,
+                       final int nodes) {
+    this.stats(resolver, file).loaded(keys, nodes);
+  }
+
+  @Override
+  public void onParseFailure(@NotNull final String resolver, @NotNull final String file,
+                             @NotNull final Throwable cause) {
+    this.stats(resolver, file).addParseFailure();
+  }
+
+  /**
+   * removes the cache listener.
+   *
+   * @param listener the listener to remove.
+   */
+  public void removeCacheListener(@NotNull final Consumer<CacheStats> listener) {
+    this.cacheListeners.remove(listener);
+  }
+
+  /**
+   * removes the listener.
+   *
+   * @param listener the listener to remove.
+   */
+  public void removeListener(@NotNull final Consumer<ResolverStats> listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * obtains or creates the stats of the cache and name.
+   *
+   * @param cache the cache to obtain.
+   * @param name the name to obtain.
+   *
+   * @return cache stats.
+   */
+  @NotNull
+  private CacheStats cacheStats(@NotNull final String cache, @NotNull final String name) {
+    final var names = this.caches.computeIfAbsent(cache, key -> new ConcurrentHashMap<>());
+    final var existing = names.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    final var created = new CacheStats(cache, name);
+    final var previous = names.putIfAbsent(name, created);
+    if (previous != null) {
+      return previous;
+    }
+    this.cacheListeners.forEach(listener -> listener.accept(created));
+    return created;
+  }
+
+  /**
+   * obtains or creates the stats of the resolver and file.
+   *
+   * @param resolver the resolver to obtain.
+   * @param file the file to obtain.
+   *
+   * @return stats.
+   */
+  @NotNull
+  private ResolverStats stats(@NotNull final String resolver, @NotNull final String file) {
+    final var files = this.stats.computeIfAbsent(resolver, key -> new ConcurrentHashMap<>());
+    final var existing = files.get(file);
+    if (existing != null) {
+      return existing;
+    }
+    final var created = new ResolverStats(file, resolver);
+    final var previous = files.putIfAbsent(file, created);
+    if (previous != null) {
+      return previous;
+    }
+    this.listeners.forEach(listener -> listener.accept(created));
+    return created;
+  }
+}
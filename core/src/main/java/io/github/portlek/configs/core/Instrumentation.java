@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an interface to determine instrumentation services which the resolvers report into.
+ * <p>
+ * every measurement is tagged by the simple name of the resolver class and the file which the caller sets on the
+ * resolver's {@link InstrumentationProbe}. the methods are called from the threads which use the resolvers, so the
+ * implementations should be thread-safe and cheap.
+ */
+public interface Instrumentation {
+
+  /**
+   * the instrumentation that records nothing.
+   */
+  Instrumentation NOOP = new Instrumentation() {
+  };
+
+  /**
+   * records the bytes read by a load.
+   *
+   * @param resolver the resolver to record.
+   * @param file the file to record.
+   * @param bytes the bytes to record.
+   */
+  default void onBytesRead(@NotNull final String resolver, @NotNull final String file, final long bytes) {
+  }
+
+  /**
+   * records the bytes written by a write.
+   *
+   * @param resolver the resolver to record.
+   * @param file the file to record.
+   * @param bytes the bytes to record.
+   */
+  default void onBytesWritten(@NotNull final String resolver, @NotNull final String file, final long bytes) {
+  }
+
+  /**
+   * records an access to a cache.
+   * <p>
+   * caches are not resolvers, they are tagged by the simple name of the cache class and the name of the cache.
+   *
+   * @param cache the cache to record.
+   * @param name the name to record.
+   * @param hit the hit to record, {@code false} if the value is loaded.
+   */
+  default void onCacheAccess(@NotNull final String cache, @NotNull final String name, final boolean hit) {
+  }
+
+  /**
+   * records the duration of an operation.
+   *
+   * @param resolver the resolver to record.
+   * @param file the file to record.
+   * @param operation the operation to record.
+   * @param nanos the duration to record.
+   */
+  default void onDuration(@NotNull final String resolver, @NotNull final String file,
+                          @NotNull final Operation operation, final long nanos) {
+  }
+
+  /**
+   * records the key and node counts after a load.
+   *
+   * @param resolver the resolver to record.
+   * @param file the file to record.
+   * @param keys the top-level key count to record.
+   * @param nodes the node count of the whole value tree to record.
+   */
+  default void onLoaded(@NotNull final String resolver, @NotNull final String file, final int keys,
+                        final int nodes) {
+  }
+
+  /**
+   * records a load which failed to parse the source.
+   * <p>
+   * the failures of the source stream itself are not recorded.
+   *
+   * @param resolver the resolver to record.
+   * @param file the file to record.
+   * @param cause the cause to record.
+   */
+  default void onParseFailure(@NotNull final String resolver, @NotNull final String file,
+                              @NotNull final Throwable cause) {
+  }
+
+  /**
+   * an enum class that contains the measured operations.
+   */
+  enum Operation {
+    /**
+     * the get value.
+     */
+    GET_VALUE,
+    /**
+     * the load.
+     */
+    LOAD,
+    /**
+     * the merge defaults.
+     */
+    MERGE_DEFAULTS,
+    /**
+     * the remove value.
+     */
+    REMOVE_VALUE,
+    /**
+     * the set value.
+     */
+    SET_VALUE,
+    /**
+     * the set values.
+     */
+    SET_VALUES,
+    /**
+     * the write.
+     */
+    WRITE
+  }
+}
@@ -0,0 +1,345 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that exports the stats of an {@link InMemoryInstrumentation} as JMX MBeans.
+ * <p>
+ * every resolver and file is registered as {@code io.github.portlek.configs:type=Resolver,resolver=...,file=...} with
+ * read-only attributes, the durations are in nanoseconds. every cache is registered as
+ * {@code io.github.portlek.configs:type=Cache,cache=...,name=...} with its hits and misses. the names which are
+ * already registered by someone else are skipped and kept when the exporter is closed. the registration failures are
+ * logged, since they are reported while a resolver is loading.
+ */
+public final class InstrumentationMBeans implements AutoCloseable {
+
+  /**
+   * the domain.
+   */
+  private static final String DOMAIN = "io.github.portlek.configs";
+
+  /**
+   * the logger.
+   */
+  private static final Logger LOGGER = Logger.getLogger(InstrumentationMBeans.class.getName());
+
+  /**
+   * the exported percentiles.
+   */
+  private static final int[] PERCENTILES = {50, 90, 99};
+
+  /**
+   * the listener of the new cache stats.
+   */
+  @NotNull
+  private final Consumer<CacheStats> cacheListener = this::register;
+
+  /**
+   * the instrumentation.
+   */
+  @NotNull
+  private final InMemoryInstrumentation instrumentation;
+
+  /**
+   * the listener of the new stats.
+   */
+  @NotNull
+  private final Consumer<ResolverStats> listener = this::register;
+
+  /**
+   * the names which are registered by the exporter.
+   */
+  private final Map<ObjectName, Boolean> names = new ConcurrentHashMap<>();
+
+  /**
+   * the server.
+   */
+  @NotNull
+  private final MBeanServer server;
+
+  /**
+   * ctor.
+   *
+   * @param instrumentation the instrumentation.
+   * @param server the server.
+   */
+  private InstrumentationMBeans(@NotNull final InMemoryInstrumentation instrumentation,
+                                @NotNull final MBeanServer server) {
+    this.instrumentation = instrumentation;
+    this.server = server;
+  }
+
+  /**
+   * exports the stats into the server, including the stats which are created later.
+   *
+   * @param instrumentation the instrumentation to export.
+   * @param server the server to export.
+   *
+   * @return an exporter which unregisters the MBeans when closed.
+   */
+  @NotNull
+  public static InstrumentationMBeans export(@NotNull final InMemoryInstrumentation instrumentation,
+                                             @NotNull final MBeanServer server) {
+    final var exporter = new InstrumentationMBeans(instrumentation, server);
+    instrumentation.addListener(exporter.listener);
+    instrumentation.addCacheListener(exporter.cacheListener);
+    instrumentation.getAll().forEach(exporter::register);
+    instrumentation.getAllCaches().forEach(exporter::register);
+    return exporter;
+  }
+
+  /**
+   * exports the stats into the platform server, including the stats which are created later.
+   *
+   * @param instrumentation the instrumentation to export.
+   *
+   * @return an exporter which unregisters the MBeans when closed.
+   */
+  @NotNull
+  public static InstrumentationMBeans export(@NotNull final InMemoryInstrumentation instrumentation) {
+    return InstrumentationMBeans.export(instrumentation, ManagementFactory.getPlatformMBeanServer());
+  }
+
+  @Override
+  public void close() {
+    this.instrumentation.removeListener(this.listener);
+    this.instrumentation.removeCacheListener(this.cacheListener);
+    this.names.keySet().forEach(name -> {
+      try {
+        this.server.unregisterMBean(name);
+      } catch (final JMException ignored) {
+      }
+    });
+    this.names.clear();
+  }
+
+  /**
+   * registers the MBean.
+   *
+   * @param properties the key properties of the name to register.
+   * @param mbean the mbean to register.
+   */
+  private void register(@NotNull final String properties, @NotNull final StatsMBean<?> mbean) {
+    try {
+      final var name = new ObjectName(String.format("%s:%s", InstrumentationMBeans.DOMAIN, properties));
+      if (this.names.containsKey(name) || this.server.isRegistered(name)) {
+        return;
+      }
+      this.server.registerMBean(mbean, name);
+      this.names.put(name, Boolean.TRUE);
+    } catch (final JMException | RuntimeException e) {
+      InstrumentationMBeans.LOGGER.log(Level.WARNING, String.format("Couldn't register the stats of %s",
+        mbean.info.getDescription()), e);
+    }
+  }
+
+  /**
+   * registers the cache stats.
+   *
+   * @param stats the stats to register.
+   */
+  private void register(@NotNull final CacheStats stats) {
+    this.register(String.format("type=Cache,cache=%s,name=%s", ObjectName.quote(stats.getCache()),
+      ObjectName.quote(stats.getName())), StatsMBean.cache(stats));
+  }
+
+  /**
+   * registers the stats.
+   *
+   * @param stats the stats to register.
+   */
+  private void register(@NotNull final ResolverStats stats) {
+    this.register(String.format("type=Resolver,resolver=%s,file=%s", ObjectName.quote(stats.getResolver()),
+      ObjectName.quote(stats.getFile())), StatsMBean.resolver(stats));
+  }
+
+  /**
+   * a class that represents the MBean of a resolver and file or a cache.
+   *
+   * @param <T> type of the stats.
+   */
+  private static final class StatsMBean<T> implements DynamicMBean {
+
+    /**
+     * the attributes.
+     */
+    @NotNull
+    private final Map<String, ToLongFunction<T>> attributes;
+
+    /**
+     * the info.
+     */
+    @NotNull
+    private final MBeanInfo info;
+
+    /**
+     * the stats.
+     */
+    @NotNull
+    private final T stats;
+
+    /**
+     * ctor.
+     *
+     * @param stats the stats.
+     * @param attributes the attributes.
+     * @param description the description.
+     */
+    private StatsMBean(@NotNull final T stats, @NotNull final Map<String, ToLongFunction<T>> attributes,
+                       @NotNull final String description) {
+      this.stats = stats;
+      this.attributes = attributes;
+      final var infos = new ArrayList<MBeanAttributeInfo>();
+      this.attributes.keySet().forEach(name ->
+        infos.add(new MBeanAttributeInfo(name, long.class.getName(), name, true, false, false)));
+      this.info = new MBeanInfo(StatsMBean.class.getName(), description, infos.toArray(MBeanAttributeInfo[]::new),
+        null, null, null);
+    }
+
+    /**
+     * creates the MBean of the cache.
+     *
+     * @param stats the stats to create.
+     *
+     * @return cache MBean.
+     */
+    @NotNull
+    private static StatsMBean<CacheStats> cache(@NotNull final CacheStats stats) {
+      final var attributes = new LinkedHashMap<String, ToLongFunction<CacheStats>>();
+      attributes.put("Hits", CacheStats::getHits);
+      attributes.put("Misses", CacheStats::getMisses);
+      return new StatsMBean<>(stats, attributes, String.format("%s %s", stats.getCache(), stats.getName()));
+    }
+
+    /**
+     * converts the operation into an attribute prefix.
+     *
+     * @param operation the operation to convert.
+     *
+     * @return attribute prefix.
+     */
+    @NotNull
+    private static String camelCase(@NotNull final Instrumentation.Operation operation) {
+      final var builder = new StringBuilder();
+      for (final var part : operation.name().split("_")) {
+        builder.append(part.charAt(0)).append(part.substring(1).toLowerCase(Locale.ROOT));
+      }
+      return builder.toString();
+    }
+
+    /**
+     * creates the MBean of the resolver and file.
+     *
+     * @param stats the stats to create.
+     *
+     * @return resolver MBean.
+     */
+    @NotNull
+    private static StatsMBean<ResolverStats> resolver(@NotNull final ResolverStats stats) {
+      final var attributes = new LinkedHashMap<String, ToLongFunction<ResolverStats>>();
+      attributes.put("BytesRead", ResolverStats::getBytesRead);
+      attributes.put("BytesWritten", ResolverStats::getBytesWritten);
+      attributes.put("Keys", ResolverStats::getKeys);
+      attributes.put("Nodes", ResolverStats::getNodes);
+      attributes.put("ParseFailures", ResolverStats::getParseFailures);
+      for (final var operation : Instrumentation.Operation.values()) {
+        final var prefix = StatsMBean.camelCase(operation);
+        attributes.put(prefix + "Count", value -> value.getDurations(operation).getCount());
+        attributes.put(prefix + "MeanNanos", value -> Math.round(value.getDurations(operation).getMean()));
+        for (final var percentile : InstrumentationMBeans.PERCENTILES) {
+          attributes.put(prefix + "P" + percentile + "Nanos", value ->
+            value.getDurations(operation).percentile(percentile));
+        }
+        attributes.put(prefix + "MaxNanos", value -> value.getDurations(operation).getMax());
+      }
+      return new StatsMBean<>(stats, attributes, String.format("%s %s", stats.getResolver(), stats.getFile()));
+    }
+
+    @Override
+    public Object getAttribute(final String attribute) throws AttributeNotFoundException {
+      final var function = this.attributes.get(attribute);
+      if (function == null) {
+        throw new AttributeNotFoundException(attribute);
+      }
+      return function.applyAsLong(this.stats);
+    }
+
+    @Override
+    public AttributeList getAttributes(final String[] attributes) {
+      final var list = new AttributeList();
+      for (final var attribute : attributes) {
+        final var function = this.attributes.get(attribute);
+        if (function != null) {
+          list.add(new Attribute(attribute, function.applyAsLong(this.stats)));
+        }
+      }
+      return list;
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+      return this.info;
+    }
+
+    @Override
+    public Object invoke(final String actionName, final Object[] params, final String[] signature)
+      throws ReflectionException {
+      throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public void setAttribute(final Attribute attribute) throws AttributeNotFoundException {
+      throw new AttributeNotFoundException(String.format("%s is read-only", attribute.getName()));
+    }
+
+    @Override
+    public AttributeList setAttributes(final AttributeList attributes) {
+      return new AttributeList();
+    }
+  }
+}
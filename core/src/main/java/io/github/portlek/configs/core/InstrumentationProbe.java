@@ -0,0 +1,422 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that measures the operations of a resolver and reports them into an {@link Instrumentation}.
+ * <p>
+ * while the instrumentation is {@link Instrumentation#NOOP}, nothing is measured and the streams are not wrapped.
+ * <p>
+ * the resolvers load from a stream and never see a path, so the probe cannot find the file by itself. callers which
+ * measure have to tag it, either by {@link ResolverPool#acquire(String)} or by calling {@link #setFile(String)} before
+ * the load. otherwise the measurements are tagged by {@link #UNKNOWN_FILE} and every untagged resolver of a class
+ * shares the same stats.
+ */
+public final class InstrumentationProbe {
+
+  /**
+   * the file of the probes whose file is not set.
+   */
+  public static final String UNKNOWN_FILE = "unknown";
+
+  /**
+   * the instrumentation of the new probes.
+   */
+  @NotNull
+  private static volatile Instrumentation defaultInstrumentation = Instrumentation.NOOP;
+
+  /**
+   * the file.
+   * <p>
+   * it has to be set before the load, the resolvers do not set it themselves.
+   */
+  @Getter
+  @NotNull
+  @Setter
+  private volatile String file = InstrumentationProbe.UNKNOWN_FILE;
+
+  /**
+   * the instrumentation.
+   */
+  @Getter
+  @NotNull
+  @Setter
+  private volatile Instrumentation instrumentation = InstrumentationProbe.defaultInstrumentation;
+
+  /**
+   * the resolver.
+   */
+  @Getter
+  @NotNull
+  private final String resolver;
+
+  /**
+   * ctor.
+   *
+   * @param resolverClass the resolver class.
+   */
+  public InstrumentationProbe(@NotNull final Class<?> resolverClass) {
+    this.resolver = resolverClass.getSimpleName();
+  }
+
+  /**
+   * counts the maps, collections and values of the value tree.
+   *
+   * @param value the value to count.
+   *
+   * @return node count.
+   */
+  public static int countNodes(@Nullable final Object value) {
+    if (value instanceof Map<?, ?>) {
+      var count = 1;
+      for (final var child : ((Map<?, ?>) value).values()) {
+        count += InstrumentationProbe.countNodes(child);
+      }
+      return count;
+    }
+    if (value instanceof Collection<?>) {
+      var count = 1;
+      for (final var child : (Collection<?>) value) {
+        count += InstrumentationProbe.countNodes(child);
+      }
+      return count;
+    }
+    return 1;
+  }
+
+  /**
+   * obtains the instrumentation of the new probes.
+   *
+   * @return default instrumentation.
+   */
+  @NotNull
+  public static Instrumentation getDefaultInstrumentation() {
+    return InstrumentationProbe.defaultInstrumentation;
+  }
+
+  /**
+   * sets the instrumentation of the probes which are created after this call.
+   *
+   * @param instrumentation the instrumentation to set.
+   */
+  public static void setDefaultInstrumentation(@NotNull final Instrumentation instrumentation) {
+    InstrumentationProbe.defaultInstrumentation = instrumentation;
+  }
+
+  /**
+   * records a get value which started at the time.
+   *
+   * @param started the started to record.
+   */
+  public void got(final long started) {
+    this.record(Instrumentation.Operation.GET_VALUE, started);
+  }
+
+  /**
+   * checks if the operations are measured.
+   *
+   * @return {@code true} if the instrumentation is not {@link Instrumentation#NOOP}.
+   */
+  public boolean isEnabled() {
+    return this.instrumentation != Instrumentation.NOOP;
+  }
+
+  /**
+   * runs and measures the load.
+   *
+   * @param inputStream the input stream to load.
+   * @param body the body to run.
+   * @param keys the keys to count after the load.
+   * @param nodes the nodes to count after the load.
+   * @param <X> type of the exception.
+   *
+   * @throws X if the body fails.
+   */
+  public <X extends Exception> void load(@NotNull final InputStream inputStream,
+                                         @NotNull final Body<InputStream, X> body, @NotNull final IntSupplier keys,
+                                         @NotNull final IntSupplier nodes) throws X {
+    final var instrumentation = this.instrumentation;
+    if (instrumentation == Instrumentation.NOOP) {
+      body.run(inputStream);
+      return;
+    }
+    final var file = this.file;
+    final var counting = new CountingInputStream(inputStream);
+    final var started = System.nanoTime();
+    try {
+      body.run(counting);
+    } catch (final Exception e) {
+      if (!counting.failed) {
+        instrumentation.onParseFailure(this.resolver, file, e);
+      }
+      throw e;
+    } finally {
+      instrumentation.onDuration(this.resolver, file, Instrumentation.Operation.LOAD, System.nanoTime() - started);
+      instrumentation.onBytesRead(this.resolver, file, counting.count);
+    }
+    instrumentation.onLoaded(this.resolver, file, keys.getAsInt(), nodes.getAsInt());
+  }
+
+  /**
+   * records a merge defaults which started at the time.
+   *
+   * @param started the started to record.
+   */
+  public void merged(final long started) {
+    this.record(Instrumentation.Operation.MERGE_DEFAULTS, started);
+  }
+
+  /**
+   * records a remove value which started at the time.
+   *
+   * @param started the started to record.
+   */
+  public void removed(final long started) {
+    this.record(Instrumentation.Operation.REMOVE_VALUE, started);
+  }
+
+  /**
+   * resets the file and the instrumentation to the defaults, so a reused resolver does not report into the tags of
+   * its previous owner.
+   */
+  public void reset() {
+    this.file = InstrumentationProbe.UNKNOWN_FILE;
+    this.instrumentation = InstrumentationProbe.defaultInstrumentation;
+  }
+
+  /**
+   * records a set value which started at the time.
+   *
+   * @param started the started to record.
+   */
+  public void set(final long started) {
+    this.record(Instrumentation.Operation.SET_VALUE, started);
+  }
+
+  /**
+   * records a set values which started at the time.
+   *
+   * @param started the started to record.
+   */
+  public void setAll(final long started) {
+    this.record(Instrumentation.Operation.SET_VALUES, started);
+  }
+
+  /**
+   * obtains the start time of an operation.
+   *
+   * @return current nano time, or {@code 0} if the operations are not measured.
+   */
+  public long start() {
+    return this.isEnabled()
+      ? System.nanoTime()
+      : 0L;
+  }
+
+  /**
+   * runs and measures the write.
+   *
+   * @param outputStream the output stream to write.
+   * @param body the body to run.
+   * @param <X> type of the exception.
+   *
+   * @throws X if the body fails.
+   */
+  public <X extends Exception> void write(@NotNull final OutputStream outputStream,
+                                          @NotNull final Body<OutputStream, X> body) throws X {
+    final var instrumentation = this.instrumentation;
+    if (instrumentation == Instrumentation.NOOP) {
+      body.run(outputStream);
+      return;
+    }
+    final var file = this.file;
+    final var counting = new CountingOutputStream(outputStream);
+    final var started = System.nanoTime();
+    try {
+      body.run(counting);
+    } finally {
+      instrumentation.onDuration(this.resolver, file, Instrumentation.Operation.WRITE, System.nanoTime() - started);
+      instrumentation.onBytesWritten(this.resolver, file, counting.count);
+    }
+  }
+
+  /**
+   * records the operation which started at the time.
+   *
+   * @param operation the operation to record.
+   * @param started the started to record.
+   */
+  private void record(@NotNull final Instrumentation.Operation operation, final long started) {
+    if (started == 0L) {
+      return;
+    }
+    this.instrumentation.onDuration(this.resolver, this.file, operation, System.nanoTime() - started);
+  }
+
+  /**
+   * an interface to determine the measured bodies of the loads and writes.
+   *
+   * @param <S> type of the stream.
+   * @param <X> type of the exception.
+   */
+  @FunctionalInterface
+  public interface Body<S, X extends Exception> {
+
+    /**
+     * runs the body.
+     *
+     * @param stream the stream to run.
+     *
+     * @throws X if something goes wrong when reading or writing.
+     */
+    void run(@NotNull S stream) throws X;
+  }
+
+  /**
+   * a class that counts the bytes read from the input stream.
+   * <p>
+   * the failures of the input stream are flagged, so they are not recorded as parse failures.
+   */
+  private static final class CountingInputStream extends FilterInputStream {
+
+    /**
+     * the count.
+     */
+    private long count;
+
+    /**
+     * the failed.
+     */
+    private boolean failed;
+
+    /**
+     * ctor.
+     *
+     * @param in the in.
+     */
+    private CountingInputStream(@NotNull final InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int available() throws IOException {
+      try {
+        return super.available();
+      } catch (final IOException e) {
+        this.failed = true;
+        throw e;
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read;
+      try {
+        read = super.read();
+      } catch (final IOException e) {
+        this.failed = true;
+        throw e;
+      }
+      if (read != -1) {
+        this.count++;
+      }
+      return read;
+    }
+
+    @Override
+    public int read(@NotNull final byte[] b, final int off, final int len) throws IOException {
+      final int read;
+      try {
+        read = super.read(b, off, len);
+      } catch (final IOException e) {
+        this.failed = true;
+        throw e;
+      }
+      if (read > 0) {
+        this.count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final long skipped;
+      try {
+        skipped = super.skip(n);
+      } catch (final IOException e) {
+        this.failed = true;
+        throw e;
+      }
+      this.count += skipped;
+      return skipped;
+    }
+  }
+
+  /**
+   * a class that counts the bytes written to the output stream.
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    /**
+     * the count.
+     */
+    private long count;
+
+    /**
+     * ctor.
+     *
+     * @param out the out.
+     */
+    private CountingOutputStream(@NotNull final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      this.out.write(b);
+      this.count++;
+    }
+
+    @Override
+    public void write(@NotNull final byte[] b, final int off, final int len) throws IOException {
+      this.out.write(b, off, len);
+      this.count += len;
+    }
+  }
+}
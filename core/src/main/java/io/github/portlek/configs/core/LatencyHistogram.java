@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * a class that records durations into log-linear buckets to estimate their percentiles.
+ * <p>
+ * durations below {@code 16} nanoseconds are recorded exactly, the others into eight buckets per power of two, so the
+ * estimated percentiles are at most 12.5% above the recorded values.
+ */
+public final class LatencyHistogram {
+
+  /**
+   * the linear bucket count.
+   */
+  private static final int LINEAR = 16;
+
+  /**
+   * the sub bucket bits of each power of two.
+   */
+  private static final int SUB_BITS = 3;
+
+  /**
+   * the bucket count.
+   */
+  private static final int BUCKETS = LatencyHistogram.LINEAR + (63 - 4) * (1 << LatencyHistogram.SUB_BITS);
+
+  /**
+   * the counts.
+   */
+  private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+
+  /**
+   * the count.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * the max.
+   */
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * the sum.
+   */
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * obtains the bucket index of the value.
+   *
+   * @param value the value to obtain.
+   *
+   * @return bucket index.
+   */
+  private static int index(final long value) {
+    if (value < LatencyHistogram.LINEAR) {
+      return (int) value;
+    }
+    final var exponent = 63 - Long.numberOfLeadingZeros(value);
+    final var sub = (int) (value >>> exponent - LatencyHistogram.SUB_BITS) & (1 << LatencyHistogram.SUB_BITS) - 1;
+    return LatencyHistogram.LINEAR + (exponent - 4 << LatencyHistogram.SUB_BITS) + sub;
+  }
+
+  /**
+   * obtains the highest value of the bucket.
+   *
+   * @param index the index to obtain.
+   *
+   * @return highest value.
+   */
+  private static long upperBound(final int index) {
+    if (index < LatencyHistogram.LINEAR) {
+      return index;
+    }
+    final var exponent = (index - LatencyHistogram.LINEAR >> LatencyHistogram.SUB_BITS) + 4;
+    final var sub = index - LatencyHistogram.LINEAR & (1 << LatencyHistogram.SUB_BITS) - 1;
+    final var width = 1L << exponent - LatencyHistogram.SUB_BITS;
+    return ((1L << LatencyHistogram.SUB_BITS) + sub) * width + width - 1;
+  }
+
+  /**
+   * obtains the count.
+   *
+   * @return recorded value count.
+   */
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  /**
+   * obtains the max.
+   *
+   * @return highest recorded value.
+   */
+  public long getMax() {
+    return this.max.get();
+  }
+
+  /**
+   * obtains the mean.
+   *
+   * @return mean of the recorded values.
+   */
+  public double getMean() {
+    final var count = this.count.sum();
+    return count == 0L
+      ? 0.0d
+      : (double) this.sum.sum() / count;
+  }
+
+  /**
+   * estimates the percentile of the recorded values.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100} to estimate.
+   *
+   * @return estimated value, or {@code 0} if nothing is recorded.
+   */
+  public long percentile(final double percentile) {
+    if (percentile < 0.0d || percentile > 100.0d) {
+      throw new IllegalArgumentException(String.format("Percentile %s is not between 0 and 100!", percentile));
+    }
+    var total = 0L;
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      total += this.buckets.get(index);
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    final var target = Math.max(1L, (long) Math.ceil(percentile / 100.0d * total));
+    var seen = 0L;
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      seen += this.buckets.get(index);
+      if (seen >= target) {
+        return Math.min(LatencyHistogram.upperBound(index), this.max.get());
+      }
+    }
+    return this.max.get();
+  }
+
+  /**
+   * records the value.
+   *
+   * @param value the value to record.
+   */
+  public void record(final long value) {
+    final var recorded = Math.max(0L, value);
+    this.buckets.incrementAndGet(LatencyHistogram.index(recorded));
+    this.count.increment();
+    this.sum.add(recorded);
+    this.max.accumulateAndGet(recorded, Math::max);
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.TransformResolver;
+import io.github.portlek.transformer.declarations.FieldDeclaration;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents resolver implementations which stacks several resolvers.
+ * <p>
+ * the later layers override the earlier ones. sections that are maps in several layers are merged key by key, so a
+ * layer can override a single nested key without replacing the whole section of the lower layers. the merged view is
+ * computed when the layers load or change, so a read is a single lookup no matter how many layers there are. values
+ * are written into and loaded from the writable layer.
+ */
+public final class LayeredResolver extends TransformResolver implements BatchWritable {
+
+  /**
+   * the keys of each layer that are used in the last merge.
+   */
+  @NotNull
+  private final List<Set<String>> layerKeys;
+
+  /**
+   * the layers.
+   */
+  @Getter
+  @NotNull
+  private final List<TransformResolver> layers;
+
+  /**
+   * the merged view of the layers.
+   */
+  private final Map<String, Object> merged = new LinkedHashMap<>();
+
+  /**
+   * the writable layer.
+   */
+  @Getter
+  @NotNull
+  private final TransformResolver writable;
+
+  /**
+   * the writable layer index.
+   */
+  private final int writableIndex;
+
+  /**
+   * ctor.
+   *
+   * @param layers the layers from the lowest precedence to the highest.
+   * @param writableIndex the writable index.
+   */
+  public LayeredResolver(@NotNull final List<? extends TransformResolver> layers, final int writableIndex) {
+    if (layers.isEmpty()) {
+      throw new IllegalArgumentException("There must be at least one layer!");
+    }
+    this.layers = List.copyOf(layers);
+    this.writableIndex = writableIndex;
+    this.writable = this.layers.get(writableIndex);
+    this.layerKeys = new ArrayList<>(this.layers.size());
+    this.layers.forEach(layer -> this.layerKeys.add(new LinkedHashSet<>()));
+    this.refresh();
+  }
+
+  /**
+   * ctor.
+   *
+   * @param layers the layers from the lowest precedence to the highest, the last one is writable.
+   */
+  public LayeredResolver(@NotNull final List<? extends TransformResolver> layers) {
+    this(layers, layers.size() - 1);
+  }
+
+  /**
+   * merges the value of a higher layer over the value of a lower layer.
+   *
+   * @param lower the lower to merge.
+   * @param higher the higher to merge.
+   *
+   * @return a new map if both values are maps, otherwise the higher value.
+   */
+  @NotNull
+  private static Object merge(@Nullable final Object lower, @NotNull final Object higher) {
+    if (!(lower instanceof Map<?, ?>) || !(higher instanceof Map<?, ?>)) {
+      return higher;
+    }
+    final var merged = new LinkedHashMap<Object, Object>((Map<?, ?>) lower);
+    ((Map<?, ?>) higher).forEach((key, value) -> {
+      if (value != null) {
+        merged.put(key, LayeredResolver.merge(merged.get(key), value));
+      }
+    });
+    return merged;
+  }
+
+  @Nullable
+  @Override
+  public <T> T deserialize(@Nullable final Object object, @Nullable final GenericDeclaration genericSource,
+                           @NotNull final Class<T> targetClass, @Nullable final GenericDeclaration genericTarget,
+                           @Nullable final Object defaultValue) {
+    return this.writable.deserialize(object, genericSource, targetClass, genericTarget, defaultValue);
+  }
+
+  @NotNull
+  @Override
+  public synchronized List<String> getAllKeys() {
+    return List.copyOf(this.merged.keySet());
+  }
+
+  @NotNull
+  @Override
+  public synchronized Optional<Object> getValue(@NotNull final String path) {
+    return Optional.ofNullable(this.merged.get(path));
+  }
+
+  @Override
+  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws Exception {
+    this.reload(this.writableIndex, inputStream, declaration);
+  }
+
+  @NotNull
+  @Override
+  public synchronized List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                                 @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var missing = HomogeneousMaps.<String, Object>newMap(defaults.size());
+    defaults.forEach((path, value) -> {
+      if (!this.merged.containsKey(path)) {
+        missing.put(path, value);
+      }
+    });
+    this.setValues(missing, genericTypes);
+    return List.copyOf(missing.keySet());
+  }
+
+  @Override
+  public synchronized boolean pathExists(@NotNull final String path) {
+    return this.merged.containsKey(path);
+  }
+
+  @Override
+  public synchronized void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
+                                       @Nullable final FieldDeclaration field) {
+    this.writable.removeValue(path, genericType, field);
+    this.layerKeys.get(this.writableIndex).remove(path);
+    this.recompute(Set.of(path));
+  }
+
+  @Nullable
+  @Override
+  public Object serialize(@Nullable final Object value, @Nullable final GenericDeclaration genericType,
+                          final boolean conservative) {
+    return this.writable.serialize(value, genericType, conservative);
+  }
+
+  @NotNull
+  @Override
+  public Map<Object, Object> serializeMap(@NotNull final Map<Object, Object> value,
+                                          @Nullable final GenericDeclaration genericType, final boolean conservative) {
+    return this.writable.serializeMap(value, genericType, conservative);
+  }
+
+  @Override
+  public synchronized void setValue(@NotNull final String path, @Nullable final Object value,
+                                    @Nullable final GenericDeclaration genericType,
+                                    @Nullable final FieldDeclaration field) {
+    this.writable.setValue(path, value, genericType, field);
+    this.layerKeys.get(this.writableIndex).add(path);
+    this.recompute(Set.of(path));
+  }
+
+  @Override
+  public synchronized void setValues(@NotNull final Map<String, ?> values,
+                                     @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    if (values.isEmpty()) {
+      return;
+    }
+    if (this.writable instanceof BatchWritable) {
+      ((BatchWritable) this.writable).setValues(values, genericTypes);
+    } else {
+      values.forEach((path, value) -> this.writable.setValue(path, value, genericTypes.get(path), null));
+    }
+    this.layerKeys.get(this.writableIndex).addAll(values.keySet());
+    this.recompute(values.keySet());
+  }
+
+  @Override
+  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws Exception {
+    this.writable.write(outputStream, declaration);
+  }
+
+  /**
+   * recomputes the whole merged view.
+   * <p>
+   * use it when the layers are changed without this resolver.
+   */
+  public synchronized void refresh() {
+    final var affected = new LinkedHashSet<>(this.merged.keySet());
+    for (var index = 0; index < this.layers.size(); index++) {
+      affected.addAll(this.updateLayerKeys(index));
+    }
+    this.recompute(affected);
+  }
+
+  /**
+   * refreshes the paths of the layer that are added or removed since the last merge and the paths it still has.
+   * <p>
+   * use it when a single layer is changed without this resolver.
+   *
+   * @param index the index to refresh.
+   */
+  public synchronized void refresh(final int index) {
+    final var affected = new LinkedHashSet<>(this.layerKeys.get(index));
+    affected.addAll(this.updateLayerKeys(index));
+    this.recompute(affected);
+  }
+
+  /**
+   * loads the layer and recomputes only the paths that it has before and after the load.
+   *
+   * @param index the index to reload.
+   * @param inputStream the input stream to reload.
+   * @param declaration the declaration to reload.
+   *
+   * @throws Exception if something goes wrong when loading the layer.
+   */
+  public synchronized void reload(final int index, @NotNull final InputStream inputStream,
+                                  @NotNull final TransformedObjectDeclaration declaration) throws Exception {
+    this.layers.get(index).load(inputStream, declaration);
+    this.refresh(index);
+  }
+
+  /**
+   * recomputes the merged values of the paths.
+   * <p>
+   * the existing entries are updated in place so the order of {@link #getAllKeys()} stays the same.
+   *
+   * @param paths the paths to recompute.
+   */
+  private void recompute(@NotNull final Collection<String> paths) {
+    for (final var path : paths) {
+      Object merged = null;
+      for (var index = 0; index < this.layers.size(); index++) {
+        if (!this.layerKeys.get(index).contains(path)) {
+          continue;
+        }
+        final var value = this.layers.get(index).getValue(path).orElse(null);
+        if (value != null) {
+          merged = LayeredResolver.merge(merged, value);
+        }
+      }
+      if (merged == null) {
+        this.merged.remove(path);
+      } else {
+        this.merged.put(path, merged);
+      }
+    }
+  }
+
+  /**
+   * updates the keys of the layer.
+   *
+   * @param index the index to update.
+   *
+   * @return the current keys of the layer.
+   */
+  @NotNull
+  private Set<String> updateLayerKeys(final int index) {
+    final var keys = this.layerKeys.get(index);
+    keys.clear();
+    keys.addAll(this.layers.get(index).getAllKeys());
+    return keys;
+  }
+}
@@ -0,0 +1,429 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that runs the rendered output through line stages while it is written.
+ * <p>
+ * the chunks are collected into a reusable line buffer, each completed line goes through the stages in the order they
+ * are added and the result is written straight to the delegate, so the output is never split into a line array and
+ * joined back together. the stages see the line buffer through a reusable {@link CharSequence} view which is valid
+ * only during the call, so a line is copied into a string only when a stage changes it.
+ */
+public final class LineProcessingWriter extends Writer {
+
+  /**
+   * the delegate.
+   */
+  @NotNull
+  private final Writer delegate;
+
+  /**
+   * the stages.
+   */
+  private final List<Stage> stages = new ArrayList<>();
+
+  /**
+   * the view of the line buffer.
+   */
+  private final LineView view = new LineView();
+
+  /**
+   * the line buffer.
+   */
+  @NotNull
+  private char[] line = new char[256];
+
+  /**
+   * the line length.
+   */
+  private int lineLength;
+
+  /**
+   * ctor.
+   *
+   * @param delegate the delegate.
+   */
+  public LineProcessingWriter(@NotNull final Writer delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * ctor.
+   *
+   * @param outputStream the output stream to write as UTF-8.
+   */
+  public LineProcessingWriter(@NotNull final OutputStream outputStream) {
+    this(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * checks if the line has the prefix at the offset without copying the line.
+   *
+   * @param line the line to check.
+   * @param prefix the prefix to check.
+   * @param offset the offset to check.
+   *
+   * @return {@code true} if the line has the prefix at the offset.
+   */
+  public static boolean startsWith(@NotNull final CharSequence line, @NotNull final String prefix, final int offset) {
+    if (offset < 0 || offset + prefix.length() > line.length()) {
+      return false;
+    }
+    for (var index = 0; index < prefix.length(); index++) {
+      if (line.charAt(offset + index) != prefix.charAt(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.finish();
+    this.delegate.close();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    this.delegate.flush();
+  }
+
+  @Override
+  public void write(@NotNull final char[] chars, final int offset, final int length) throws IOException {
+    final var end = offset + length;
+    var start = offset;
+    for (var index = offset; index < end; index++) {
+      if (chars[index] != '\n') {
+        continue;
+      }
+      this.append(chars, start, index - start);
+      this.emit(true);
+      start = index + 1;
+    }
+    this.append(chars, start, end - start);
+  }
+
+  @Override
+  public void write(@NotNull final String text, final int offset, final int length) throws IOException {
+    final var end = offset + length;
+    var start = offset;
+    while (start < end) {
+      final var newLine = text.indexOf('\n', start);
+      final var lineEnd = newLine == -1 || newLine >= end
+        ? end
+        : newLine;
+      this.ensureCapacity(this.lineLength + lineEnd - start);
+      text.getChars(start, lineEnd, this.line, this.lineLength);
+      this.lineLength += lineEnd - start;
+      if (lineEnd == end) {
+        return;
+      }
+      this.emit(true);
+      start = lineEnd + 1;
+    }
+  }
+
+  /**
+   * processes the last line if it does not end with a new line and flushes the delegate.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  public void finish() throws IOException {
+    if (this.lineLength > 0) {
+      this.emit(false);
+    }
+    this.delegate.flush();
+  }
+
+  /**
+   * removes the lines that match the filter.
+   *
+   * @param filter the filter to remove.
+   *
+   * @return {@code this} for builder chain.
+   */
+  @NotNull
+  public LineProcessingWriter removeLines(@NotNull final Predicate<CharSequence> filter) {
+    this.stages.add(line -> filter.test(line)
+      ? null
+      : line);
+    return this;
+  }
+
+  /**
+   * removes the lines that start with the prefix.
+   *
+   * @param prefix the prefix to remove.
+   *
+   * @return {@code this} for builder chain.
+   */
+  @NotNull
+  public LineProcessingWriter removeLinesStartingWith(@NotNull final String prefix) {
+    return this.removeLines(line -> LineProcessingWriter.startsWith(line, prefix, 0));
+  }
+
+  /**
+   * updates the lines.
+   *
+   * @param updater the updater to update, returns the given line itself to keep it.
+   *
+   * @return {@code this} for builder chain.
+   */
+  @NotNull
+  public LineProcessingWriter updateLines(@NotNull final UnaryOperator<CharSequence> updater) {
+    this.stages.add(updater::apply);
+    return this;
+  }
+
+  /**
+   * updates the yaml lines that start a key with the path of the key.
+   *
+   * @param updater the updater to update.
+   *
+   * @return {@code this} for builder chain.
+   */
+  @NotNull
+  public LineProcessingWriter updateSectionLines(@NotNull final SectionLineUpdater updater) {
+    this.stages.add(new SectionStage(updater));
+    return this;
+  }
+
+  /**
+   * writes the text directly to the delegate without processing.
+   *
+   * @param text the text to write.
+   *
+   * @return {@code this} for builder chain.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  @NotNull
+  public LineProcessingWriter writeRaw(@NotNull final String text) throws IOException {
+    this.delegate.write(text);
+    return this;
+  }
+
+  /**
+   * appends the chars to the line buffer.
+   *
+   * @param chars the chars to append.
+   * @param offset the offset to append.
+   * @param length the length to append.
+   */
+  private void append(@NotNull final char[] chars, final int offset, final int length) {
+    if (length == 0) {
+      return;
+    }
+    this.ensureCapacity(this.lineLength + length);
+    System.arraycopy(chars, offset, this.line, this.lineLength, length);
+    this.lineLength += length;
+  }
+
+  /**
+   * runs the buffered line through the stages and writes the result.
+   *
+   * @param newLine the new line to write after the line.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void emit(final boolean newLine) throws IOException {
+    final var view = this.view.reset(this.line, this.lineLength);
+    this.lineLength = 0;
+    @Nullable CharSequence current = view;
+    for (final var stage : this.stages) {
+      current = stage.process(current);
+      if (current == null) {
+        return;
+      }
+    }
+    if (current == view) {
+      this.delegate.write(this.line, 0, view.length());
+    } else {
+      this.delegate.append(current);
+    }
+    if (newLine) {
+      this.delegate.write('\n');
+    }
+  }
+
+  /**
+   * grows the line buffer if it cannot hold the capacity.
+   *
+   * @param capacity the capacity to ensure.
+   */
+  private void ensureCapacity(final int capacity) {
+    if (capacity > this.line.length) {
+      this.line = Arrays.copyOf(this.line, Math.max(capacity, this.line.length * 2));
+    }
+  }
+
+  /**
+   * an interface to determine line stages.
+   */
+  @FunctionalInterface
+  private interface Stage {
+
+    /**
+     * processes the line.
+     *
+     * @param line the line to process.
+     *
+     * @return processed line, the line itself to keep it or {@code null} to remove the line.
+     */
+    @Nullable
+    CharSequence process(@NotNull CharSequence line);
+  }
+
+  /**
+   * a class that represents reusable views of the line buffer.
+   */
+  private static final class LineView implements CharSequence {
+
+    /**
+     * the chars.
+     */
+    private char[] chars;
+
+    /**
+     * the length.
+     */
+    private int length;
+
+    @Override
+    public char charAt(final int index) {
+      if (index < 0 || index >= this.length) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return this.chars[index];
+    }
+
+    @Override
+    public int length() {
+      return this.length;
+    }
+
+    @NotNull
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      if (start < 0 || start > end || end > this.length) {
+        throw new IndexOutOfBoundsException(String.format("%d, %d", start, end));
+      }
+      return new String(this.chars, start, end - start);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+      return new String(this.chars, 0, this.length);
+    }
+
+    /**
+     * points the view to the chars.
+     *
+     * @param chars the chars to view.
+     * @param length the length to view.
+     *
+     * @return {@code this}.
+     */
+    @NotNull
+    private LineView reset(@NotNull final char[] chars, final int length) {
+      this.chars = chars;
+      this.length = length;
+      return this;
+    }
+  }
+
+  /**
+   * a class that represents stages which track the yaml keys of the lines.
+   */
+  private static final class SectionStage implements Stage {
+
+    /**
+     * the indents of the keys in the path.
+     */
+    private final List<Integer> indents = new ArrayList<>();
+
+    /**
+     * the names of the keys in the path.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * the read-only view of the names.
+     */
+    private final List<String> path = Collections.unmodifiableList(this.names);
+
+    /**
+     * the updater.
+     */
+    @NotNull
+    private final SectionLineUpdater updater;
+
+    /**
+     * ctor.
+     *
+     * @param updater the updater.
+     */
+    private SectionStage(@NotNull final SectionLineUpdater updater) {
+      this.updater = updater;
+    }
+
+    @NotNull
+    @Override
+    public CharSequence process(@NotNull final CharSequence line) {
+      final var indent = YamlLines.indent(line);
+      final var name = YamlLines.keyName(line, indent);
+      if (name == null) {
+        return line;
+      }
+      var size = this.indents.size();
+      while (size > 0 && this.indents.get(size - 1) >= indent) {
+        size--;
+        this.indents.remove(size);
+        this.names.remove(size);
+      }
+      this.indents.add(indent);
+      this.names.add(name);
+      return this.updater.update(line, name, indent, this.path);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an interface to determine resolvers that memoize their deserialized values in a {@link DeserializationMemo}.
+ */
+public interface Memoized {
+
+  /**
+   * deserializes the object into the target type.
+   *
+   * @param object the object to deserialize.
+   * @param genericSource the generic source to deserialize.
+   * @param targetClass the target class to deserialize.
+   * @param genericTarget the generic target to deserialize.
+   * @param defaultValue the default value to deserialize.
+   * @param <T> type of the value.
+   *
+   * @return deserialized value.
+   */
+  @Nullable
+  <T> T deserialize(@Nullable Object object, @Nullable GenericDeclaration genericSource, @NotNull Class<T> targetClass,
+                    @Nullable GenericDeclaration genericTarget, @Nullable Object defaultValue);
+
+  /**
+   * obtains the deserialization memo.
+   *
+   * @return deserialization memo.
+   */
+  @NotNull
+  DeserializationMemo getDeserializationMemo();
+
+  /**
+   * gets the value at the path as the target type, deserializing it only once until the path changes.
+   *
+   * @param path the path to get.
+   * @param targetClass the target class to get.
+   * @param genericTarget the generic target to get.
+   * @param <T> type of the value.
+   *
+   * @return deserialized value.
+   */
+  @Nullable
+  default <T> T getDeserialized(@NotNull final String path, @NotNull final Class<T> targetClass,
+                                @Nullable final GenericDeclaration genericTarget) {
+    return this.getDeserializationMemo().get(path, targetClass, genericTarget, () -> this.getValue(path)
+      .map(value -> this.deserialize(value, GenericDeclaration.of(value), targetClass, genericTarget, null))
+      .orElse(null));
+  }
+
+  /**
+   * gets the value at the path.
+   *
+   * @param path the path to get.
+   *
+   * @return value at the path.
+   */
+  @NotNull
+  Optional<Object> getValue(@NotNull String path);
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that contains utility methods to store homogeneous numeric lists in primitive arrays.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NumericLists {
+
+  /**
+   * the double kind.
+   */
+  private static final int DOUBLE = 2;
+
+  /**
+   * the int kind.
+   */
+  private static final int INT = 0;
+
+  /**
+   * the long kind.
+   */
+  private static final int LONG = 1;
+
+  /**
+   * the minimum size of the lists to compact.
+   */
+  private static final int MIN_SIZE = 8;
+
+  /**
+   * the kind of the empty prefix.
+   */
+  private static final int NONE = -1;
+
+  /**
+   * compacts the list into a primitive array backed list if all the elements are integers, longs or doubles.
+   * <p>
+   * integers and longs are stored in a {@code long} array when they are mixed. only the lists whose elements are all
+   * doubles are stored in a {@code double} array, the lists that mix integral and floating numbers are kept as they
+   * are so the integral numbers neither change their type nor lose precision. the lists that contain floats, shorts
+   * or bytes are kept as they are too, so their elements do not come back widened.
+   *
+   * @param list the list to compact.
+   *
+   * @return compacted list or the list itself if it is not a homogeneous numeric list.
+   */
+  @NotNull
+  public static List<?> compact(@NotNull final List<?> list) {
+    final var size = list.size();
+    if (size < NumericLists.MIN_SIZE
+      || !(list instanceof RandomAccess)
+      || list instanceof CompactIntList
+      || list instanceof CompactLongList
+      || list instanceof CompactDoubleList) {
+      return list;
+    }
+    var kind = NumericLists.NONE;
+    for (final var element : list) {
+      if (element == null) {
+        return list;
+      }
+      final int elementKind;
+      final var type = element.getClass();
+      if (type == Double.class) {
+        elementKind = NumericLists.DOUBLE;
+      } else if (type == Long.class) {
+        elementKind = NumericLists.LONG;
+      } else if (type == Integer.class) {
+        elementKind = NumericLists.INT;
+      } else {
+        return list;
+      }
+      if (kind != NumericLists.NONE
+        && kind != elementKind
+        && (kind == NumericLists.DOUBLE || elementKind == NumericLists.DOUBLE)) {
+        return list;
+      }
+      kind = Math.max(kind, elementKind);
+    }
+    if (kind == NumericLists.INT) {
+      final var values = new int[size];
+      for (var index = 0; index < size; index++) {
+        values[index] = ((Number) list.get(index)).intValue();
+      }
+      return new CompactIntList(values);
+    }
+    if (kind == NumericLists.LONG) {
+      final var values = new long[size];
+      for (var index = 0; index < size; index++) {
+        values[index] = ((Number) list.get(index)).longValue();
+      }
+      return new CompactLongList(values);
+    }
+    final var values = new double[size];
+    for (var index = 0; index < size; index++) {
+      values[index] = ((Number) list.get(index)).doubleValue();
+    }
+    return new CompactDoubleList(values);
+  }
+
+  /**
+   * compacts the numeric lists in the value tree.
+   * <p>
+   * the maps and the lists of the tree are updated in place, so they have to be mutable.
+   *
+   * @param value the value to compact.
+   *
+   * @return compacted value.
+   */
+  @Nullable
+  public static Object compactAll(@Nullable final Object value) {
+    if (value instanceof Map<?, ?>) {
+      //noinspection unchecked
+      ((Map<Object, Object>) value).replaceAll((key, entryValue) -> NumericLists.compactAll(entryValue));
+      return value;
+    }
+    if (!(value instanceof List<?>)) {
+      return value;
+    }
+    final var compacted = NumericLists.compact((List<?>) value);
+    if (compacted != value) {
+      return compacted;
+    }
+    //noinspection unchecked
+    ((List<Object>) value).replaceAll(NumericLists::compactAll);
+    return value;
+  }
+
+  /**
+   * converts the numeric list into a {@code double} array.
+   *
+   * @param list the list to convert.
+   *
+   * @return converted array.
+   */
+  @NotNull
+  public static double[] toDoubleArray(@NotNull final List<?> list) {
+    if (list instanceof CompactDoubleList) {
+      return ((CompactDoubleList) list).toDoubleArray();
+    }
+    final var size = list.size();
+    final var values = new double[size];
+    for (var index = 0; index < size; index++) {
+      values[index] = ((Number) list.get(index)).doubleValue();
+    }
+    return values;
+  }
+
+  /**
+   * converts the numeric list into an {@code int} array.
+   *
+   * @param list the list to convert.
+   *
+   * @return converted array.
+   */
+  @NotNull
+  public static int[] toIntArray(@NotNull final List<?> list) {
+    if (list instanceof CompactIntList) {
+      return ((CompactIntList) list).toIntArray();
+    }
+    final var size = list.size();
+    final var values = new int[size];
+    for (var index = 0; index < size; index++) {
+      values[index] = ((Number) list.get(index)).intValue();
+    }
+    return values;
+  }
+
+  /**
+   * converts the numeric list into a {@code long} array.
+   *
+   * @param list the list to convert.
+   *
+   * @return converted array.
+   */
+  @NotNull
+  public static long[] toLongArray(@NotNull final List<?> list) {
+    if (list instanceof CompactLongList) {
+      return ((CompactLongList) list).toLongArray();
+    }
+    final var size = list.size();
+    final var values = new long[size];
+    for (var index = 0; index < size; index++) {
+      values[index] = ((Number) list.get(index)).longValue();
+    }
+    return values;
+  }
+}
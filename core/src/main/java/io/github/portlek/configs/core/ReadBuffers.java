@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains thread-local, reusable read buffers to read config sources.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReadBuffers {
+
+  /**
+   * the byte buffers.
+   */
+  private static final ThreadLocal<byte[]> BYTES = ThreadLocal.withInitial(() ->
+    new byte[ReadBuffers.INITIAL_SIZE]);
+
+  /**
+   * the char buffers.
+   */
+  private static final ThreadLocal<char[]> CHARS = ThreadLocal.withInitial(() ->
+    new char[ReadBuffers.INITIAL_SIZE]);
+
+  /**
+   * the initial buffer size.
+   */
+  private static final int INITIAL_SIZE = 8192;
+
+  /**
+   * the maximum buffer size to keep for the next reads.
+   */
+  private static final int MAX_RETAINED_SIZE = 1 << 20;
+
+  /**
+   * obtains the reusable char buffer of the current thread.
+   *
+   * @return char buffer.
+   */
+  @NotNull
+  public static char[] chars() {
+    return ReadBuffers.CHARS.get();
+  }
+
+  /**
+   * reads the input stream fully into the reusable byte buffer of the current thread and applies the function.
+   *
+   * @param inputStream the input stream to read.
+   * @param function the function to apply. the buffer must not leave the function.
+   * @param <T> type of the result.
+   *
+   * @return function result.
+   *
+   * @throws IOException if something goes wrong when reading the input stream.
+   */
+  public static <T> T readBytes(@NotNull final InputStream inputStream, @NotNull final BytesFunction<T> function)
+    throws IOException {
+    var buffer = ReadBuffers.BYTES.get();
+    var length = 0;
+    int read;
+    while ((read = inputStream.read(buffer, length, buffer.length - length)) != -1) {
+      length += read;
+      if (length == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length << 1);
+      }
+    }
+    if (buffer.length <= ReadBuffers.MAX_RETAINED_SIZE) {
+      ReadBuffers.BYTES.set(buffer);
+    }
+    return function.apply(buffer, length);
+  }
+
+  /**
+   * reads the input stream fully as an utf-8 string through the reusable byte buffer of the current thread.
+   *
+   * @param inputStream the input stream to read.
+   *
+   * @return read string.
+   *
+   * @throws IOException if something goes wrong when reading the input stream.
+   */
+  @NotNull
+  public static String readString(@NotNull final InputStream inputStream) throws IOException {
+    return ReadBuffers.readBytes(inputStream, (bytes, length) ->
+      new String(bytes, 0, length, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * an interface to determine functions that consume read bytes.
+   *
+   * @param <T> type of the result.
+   */
+  @FunctionalInterface
+  public interface BytesFunction<T> {
+
+    /**
+     * applies the function.
+     *
+     * @param bytes the bytes to apply.
+     * @param length the valid length of the bytes.
+     *
+     * @return result.
+     *
+     * @throws IOException if something goes wrong when consuming the bytes.
+     */
+    T apply(@NotNull byte[] bytes, int length) throws IOException;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.TransformResolver;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that pools resolver instances to load lots of small files without creating a resolver for each of them.
+ *
+ * @param <T> type of the resolvers.
+ */
+@RequiredArgsConstructor
+public final class ResolverPool<T extends TransformResolver & Resettable> {
+
+  /**
+   * the factory.
+   */
+  @NotNull
+  private final Supplier<T> factory;
+
+  /**
+   * the idle resolvers.
+   */
+  private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+
+  /**
+   * the idle size.
+   */
+  private final AtomicInteger idleSize = new AtomicInteger();
+
+  /**
+   * the maximum idle size.
+   */
+  private final int maxIdle;
+
+  /**
+   * ctor.
+   *
+   * @param factory the factory.
+   */
+  public ResolverPool(@NotNull final Supplier<T> factory) {
+    this(factory, Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  /**
+   * acquires an idle resolver or creates a new one.
+   *
+   * @return resolver.
+   */
+  @NotNull
+  public T acquire() {
+    final var resolver = this.idle.poll();
+    if (resolver == null) {
+      return this.factory.get();
+    }
+    this.idleSize.decrementAndGet();
+    return resolver;
+  }
+
+  /**
+   * acquires an idle resolver or creates a new one, and tags its measurements by the file.
+   * <p>
+   * the tag is cleared when the resolver is released.
+   *
+   * @param file the file to tag.
+   *
+   * @return resolver.
+   */
+  @NotNull
+  public T acquire(@NotNull final String file) {
+    final var resolver = this.acquire();
+    if (resolver instanceof Instrumented) {
+      ((Instrumented) resolver).getProbe().setFile(file);
+    }
+    return resolver;
+  }
+
+  /**
+   * resets the resolver and gives it back to the pool.
+   *
+   * @param resolver the resolver to release.
+   */
+  public void release(@NotNull final T resolver) {
+    resolver.reset();
+    if (this.idleSize.incrementAndGet() > this.maxIdle) {
+      this.idleSize.decrementAndGet();
+      return;
+    }
+    this.idle.offer(resolver);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains the measurements of a resolver and file.
+ */
+@RequiredArgsConstructor
+public final class ResolverStats {
+
+  /**
+   * the bytes read.
+   */
+  private final LongAdder bytesRead = new LongAdder();
+
+  /**
+   * the bytes written.
+   */
+  private final LongAdder bytesWritten = new LongAdder();
+
+  /**
+   * the file.
+   */
+  @Getter
+  @NotNull
+  private final String file;
+
+  /**
+   * the durations.
+   */
+  private final Map<Instrumentation.Operation, LatencyHistogram> durations = ResolverStats.histograms();
+
+  /**
+   * the top-level key count of the last load.
+   */
+  @Getter
+  private volatile int keys;
+
+  /**
+   * the node count of the last load.
+   */
+  @Getter
+  private volatile int nodes;
+
+  /**
+   * the parse failures.
+   */
+  private final LongAdder parseFailures = new LongAdder();
+
+  /**
+   * the resolver.
+   */
+  @Getter
+  @NotNull
+  private final String resolver;
+
+  /**
+   * creates a histogram for each operation.
+   *
+   * @return histograms.
+   */
+  @NotNull
+  private static Map<Instrumentation.Operation, LatencyHistogram> histograms() {
+    final var histograms = new EnumMap<Instrumentation.Operation, LatencyHistogram>(Instrumentation.Operation.class);
+    for (final var operation : Instrumentation.Operation.values()) {
+      histograms.put(operation, new LatencyHistogram());
+    }
+    return histograms;
+  }
+
+  /**
+   * obtains the bytes read.
+   *
+   * @return bytes read.
+   */
+  public long getBytesRead() {
+    return this.bytesRead.sum();
+  }
+
+  /**
+   * obtains the bytes written.
+   *
+   * @return bytes written.
+   */
+  public long getBytesWritten() {
+    return this.bytesWritten.sum();
+  }
+
+  /**
+   * obtains the durations of the operation.
+   *
+   * @param operation the operation to obtain.
+   *
+   * @return durations in nanoseconds.
+   */
+  @NotNull
+  public LatencyHistogram getDurations(@NotNull final Instrumentation.Operation operation) {
+    return this.durations.get(operation);
+  }
+
+  /**
+   * obtains the parse failures.
+   *
+   * @return parse failures.
+   */
+  public long getParseFailures() {
+    return this.parseFailures.sum();
+  }
+
+  /**
+   * records the bytes read.
+   *
+   * @param bytes the bytes to record.
+   */
+  void addBytesRead(final long bytes) {
+    this.bytesRead.add(bytes);
+  }
+
+  /**
+   * records the bytes written.
+   *
+   * @param bytes the bytes to record.
+   */
+  void addBytesWritten(final long bytes) {
+    this.bytesWritten.add(bytes);
+  }
+
+  /**
+   * records a parse failure.
+   */
+  void addParseFailure() {
+    this.parseFailures.increment();
+  }
+
+  /**
+   * records the counts of the last load.
+   *
+   * @param keys the keys to record.
+   * @param nodes the nodes to record.
+   */
+  void loaded(final int keys, final int nodes) {
+    this.keys = keys;
+    this.nodes = nodes;
+  }
+}
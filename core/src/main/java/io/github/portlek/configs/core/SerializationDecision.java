@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.TransformResolver;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an enum class that contains serialization decisions of the value types.
+ */
+public enum SerializationDecision {
+  /**
+   * the characters which have to be serialized as non-conservative.
+   */
+  CHARACTER,
+  /**
+   * the strings which are written as they are.
+   */
+  STRING,
+  /**
+   * the primitives and their wrappers which are written as they are when the serialization is conservative.
+   */
+  PRIMITIVE,
+  /**
+   * the other types which are delegated to the resolver.
+   */
+  OBJECT;
+
+  /**
+   * the primitive wrappers.
+   */
+  private static final Set<Class<?>> PRIMITIVE_WRAPPERS = Set.of(Boolean.class, Byte.class, Short.class,
+    Integer.class, Long.class, Float.class, Double.class);
+
+  /**
+   * the decision cache.
+   */
+  private static final ClassValue<SerializationDecision> CACHE = new ClassValue<>() {
+    @Override
+    protected SerializationDecision computeValue(final Class<?> type) {
+      return SerializationDecision.decide(type);
+    }
+  };
+
+  /**
+   * the serialized types of the registries, {@code true} if the registry has a serializer for the type.
+   * <p>
+   * the registries are held weakly, so a resolver that gets a new registry does not use the answers of its old one.
+   */
+  private static final Map<Object, Map<Class<?>, Boolean>> SERIALIZED =
+    Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * obtains the cached decision of the type.
+   *
+   * @param type the type to obtain.
+   *
+   * @return serialization decision.
+   */
+  @NotNull
+  public static SerializationDecision of(@NotNull final Class<?> type) {
+    return SerializationDecision.CACHE.get(type);
+  }
+
+  /**
+   * obtains the cached decision of the value's type.
+   *
+   * @param value the value to obtain.
+   *
+   * @return serialization decision.
+   */
+  @NotNull
+  public static SerializationDecision of(@NotNull final Object value) {
+    return SerializationDecision.of(value.getClass());
+  }
+
+  /**
+   * forgets the serializer lookups of the resolver's registry.
+   * <p>
+   * the lookups are cached per registry and type, so this has to be called after a serializer is registered into a
+   * registry which has been used already.
+   *
+   * @param resolver the resolver to invalidate.
+   */
+  public static void invalidate(@NotNull final TransformResolver resolver) {
+    SerializationDecision.SERIALIZED.remove(resolver.getRegistry());
+  }
+
+  /**
+   * checks if the values of the type can be written as they are by the resolver.
+   * <p>
+   * the cached decision is only used when the registry of the resolver has no serializer for the type, so the
+   * serializers which are registered for strings or primitive wrappers are never skipped. the registry is asked
+   * once for each type until {@link #invalidate(TransformResolver)} is called.
+   *
+   * @param resolver the resolver to check.
+   * @param type the type to check.
+   * @param conservative the conservative to check.
+   *
+   * @return {@code true} if the values do not need any serialization.
+   */
+  public static boolean isPassThrough(@NotNull final TransformResolver resolver, @NotNull final Class<?> type,
+                                      final boolean conservative) {
+    if (!SerializationDecision.of(type).isPassThrough(conservative)) {
+      return false;
+    }
+    final var registry = resolver.getRegistry();
+    return !SerializationDecision.SERIALIZED.computeIfAbsent(registry, key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(type, key -> registry.getSerializer(MethodType.methodType(key).wrap().returnType()) != null);
+  }
+
+  /**
+   * decides the serialization of the type.
+   *
+   * @param type the type to decide.
+   *
+   * @return serialization decision.
+   */
+  @NotNull
+  private static SerializationDecision decide(@NotNull final Class<?> type) {
+    if (type == char.class || type == Character.class) {
+      return SerializationDecision.CHARACTER;
+    }
+    if (type == String.class) {
+      return SerializationDecision.STRING;
+    }
+    if (type.isPrimitive() || SerializationDecision.PRIMITIVE_WRAPPERS.contains(type)) {
+      return SerializationDecision.PRIMITIVE;
+    }
+    return SerializationDecision.OBJECT;
+  }
+
+  /**
+   * checks if the value can be written as it is.
+   *
+   * @param conservative the conservative to check.
+   *
+   * @return {@code true} if the value does not need any serialization.
+   */
+  public boolean isPassThrough(final boolean conservative) {
+    return this == SerializationDecision.STRING
+      || this == SerializationDecision.PRIMITIVE && conservative;
+  }
+
+  /**
+   * checks if the serialization has to be conservative.
+   *
+   * @param conservative the conservative to check.
+   *
+   * @return {@code true} if the serialization has to be conservative.
+   */
+  public boolean isConservative(final boolean conservative) {
+    return conservative && this != SerializationDecision.CHARACTER;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that turns the array walkers of the streaming parsers into lazy streams.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamingValues {
+
+  /**
+   * creates a lazy stream which closes the resource when the values are exhausted or the stream is closed.
+   *
+   * @param source the source to create.
+   * @param resource the resource to create.
+   *
+   * @return a lazy stream of the values.
+   */
+  @NotNull
+  public static Stream<Object> of(@NotNull final Source source, @NotNull final Closeable resource) {
+    final var iterator = new SourceIterator(source, resource);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+      .onClose(iterator::close);
+  }
+
+  /**
+   * an interface to determine array walkers of the streaming parsers.
+   */
+  public interface Source {
+
+    /**
+     * moves to the next value of the array.
+     *
+     * @return {@code true} if the array has one more value.
+     *
+     * @throws IOException if something goes wrong when reading.
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * reads the current value of the array.
+     *
+     * @return current value.
+     *
+     * @throws IOException if something goes wrong when reading.
+     */
+    @Nullable
+    Object next() throws IOException;
+  }
+
+  /**
+   * a class that represents iterators of the sources.
+   */
+  private static final class SourceIterator implements Iterator<Object> {
+
+    /**
+     * the resource.
+     */
+    @NotNull
+    private final Closeable resource;
+
+    /**
+     * the source.
+     */
+    @NotNull
+    private final Source source;
+
+    /**
+     * the closed.
+     */
+    private boolean closed;
+
+    /**
+     * the next state.
+     */
+    @Nullable
+    private Boolean ready;
+
+    /**
+     * ctor.
+     *
+     * @param source the source.
+     * @param resource the resource.
+     */
+    private SourceIterator(@NotNull final Source source, @NotNull final Closeable resource) {
+      this.source = source;
+      this.resource = resource;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (this.ready == null) {
+        try {
+          this.ready = !this.closed && this.source.hasNext();
+        } catch (final IOException e) {
+          this.close();
+          throw new UncheckedIOException(e);
+        }
+        if (!this.ready) {
+          this.close();
+        }
+      }
+      return this.ready;
+    }
+
+    @Override
+    public Object next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      this.ready = null;
+      try {
+        return this.source.next();
+      } catch (final IOException e) {
+        this.close();
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * closes the resource.
+     */
+    private void close() {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      try {
+        this.resource.close();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that contains utility methods to read the keys of rendered yaml lines.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class YamlLines {
+
+  /**
+   * counts the leading spaces of the line.
+   *
+   * @param line the line to count.
+   *
+   * @return indent.
+   */
+  public static int indent(@NotNull final CharSequence line) {
+    var indent = 0;
+    while (indent < line.length() && line.charAt(indent) == ' ') {
+      indent++;
+    }
+    return indent;
+  }
+
+  /**
+   * parses the key name of the line.
+   *
+   * @param line the line to parse.
+   * @param indent the indent to parse.
+   *
+   * @return key name or {@code null} if the line does not start a key.
+   */
+  @Nullable
+  public static String keyName(@NotNull final CharSequence line, final int indent) {
+    if (indent == line.length()) {
+      return null;
+    }
+    final var first = line.charAt(indent);
+    if (first == '#' || first == '-') {
+      return null;
+    }
+    var separator = indent;
+    while (separator < line.length() && line.charAt(separator) != ':') {
+      separator++;
+    }
+    if (separator == line.length() || separator + 1 < line.length() && line.charAt(separator + 1) != ' ') {
+      return null;
+    }
+    final var name = line.subSequence(indent, separator).toString().trim();
+    if (name.length() > 1 && (name.charAt(0) == '\'' || name.charAt(0) == '"')
+      && name.charAt(name.length() - 1) == name.charAt(0)) {
+      return name.substring(1, name.length() - 1);
+    }
+    return name;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class ConfigChangeTest {
+
+  private static Map<String, Object> map(final Object... entries) {
+    final var map = new LinkedHashMap<String, Object>();
+    for (var index = 0; index < entries.length; index += 2) {
+      map.put((String) entries[index], entries[index + 1]);
+    }
+    return map;
+  }
+
+  @Test
+  void comparesTheNestedMapsByPath() {
+    final var before = ConfigChangeTest.map(
+      "a", ConfigChangeTest.map("b", 1, "c", ConfigChangeTest.map("d", "x"), "e", List.of(1, 2)),
+      "f", ConfigChangeTest.map("g", 1));
+    final var after = ConfigChangeTest.map(
+      "a", ConfigChangeTest.map("b", 2, "c", ConfigChangeTest.map("d", "x", "h", true), "e", List.of(1, 2)),
+      "f", "flat");
+    final var change = ConfigChange.between(before, after);
+    Assertions.assertEquals(List.of("a.c.h"), change.getAdded());
+    Assertions.assertEquals(List.of("a.b", "f"), change.getModified());
+    Assertions.assertEquals(List.of(), change.getRemoved());
+  }
+
+  @Test
+  void findsTheAddedRemovedAndModifiedPaths() {
+    final var change = ConfigChange.between(
+      ConfigChangeTest.map("kept", 1, "modified", "old", "removed", true, "nulled", 1),
+      ConfigChangeTest.map("kept", 1, "modified", "new", "added", 2.5, "nulled", null));
+    Assertions.assertEquals(List.of("added"), change.getAdded());
+    Assertions.assertEquals(List.of("modified", "nulled"), change.getModified());
+    Assertions.assertEquals(List.of("removed"), change.getRemoved());
+    Assertions.assertFalse(change.isEmpty());
+  }
+
+  @Test
+  void isEmptyForEqualTrees() {
+    final var change = ConfigChange.between(
+      ConfigChangeTest.map("a", ConfigChangeTest.map("b", List.of(1, 2))),
+      ConfigChangeTest.map("a", ConfigChangeTest.map("b", List.of(1, 2))));
+    Assertions.assertTrue(change.isEmpty());
+  }
+
+  @Test
+  void reportsOnlyTheReloads() {
+    final var notifier = new ChangeNotifier();
+    final var changes = new ArrayList<ConfigChange>();
+    notifier.addListener(changes::add);
+    Assertions.assertFalse(notifier.isObserving());
+    notifier.onReload(Map.of(), ConfigChangeTest.map("a", 1));
+    Assertions.assertTrue(changes.isEmpty());
+    Assertions.assertTrue(notifier.isObserving());
+    notifier.onReload(ConfigChangeTest.map("a", 1), ConfigChangeTest.map("a", 1));
+    Assertions.assertTrue(changes.isEmpty());
+    notifier.onReload(ConfigChangeTest.map("a", 1), ConfigChangeTest.map("a", 2));
+    Assertions.assertEquals(1, changes.size());
+    Assertions.assertEquals(List.of("a"), changes.get(0).getModified());
+    notifier.reset();
+    notifier.addListener(changes::add);
+    notifier.onReload(ConfigChangeTest.map("a", 2), ConfigChangeTest.map("a", 3));
+    Assertions.assertEquals(1, changes.size());
+  }
+}
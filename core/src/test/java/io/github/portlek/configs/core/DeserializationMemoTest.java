@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class DeserializationMemoTest {
+
+  private static void memoize(final DeserializationMemo memo, final String path) {
+    memo.get(path, String.class, null, () -> path);
+  }
+
+  private static boolean isMemoized(final DeserializationMemo memo, final String path) {
+    final var misses = memo.getMisses();
+    DeserializationMemoTest.memoize(memo, path);
+    return misses == memo.getMisses();
+  }
+
+  @Test
+  void invalidatesTheParentsAndTheChildren() {
+    final var memo = new DeserializationMemo();
+    for (final var path : new String[]{"a", "a.b", "a.b.c", "a.bc", "a.b-c", "ab", "b"}) {
+      DeserializationMemoTest.memoize(memo, path);
+    }
+    memo.invalidate("a.b");
+    Assertions.assertFalse(DeserializationMemoTest.isMemoized(memo, "a"));
+    Assertions.assertFalse(DeserializationMemoTest.isMemoized(memo, "a.b"));
+    Assertions.assertFalse(DeserializationMemoTest.isMemoized(memo, "a.b.c"));
+    Assertions.assertTrue(DeserializationMemoTest.isMemoized(memo, "a.bc"));
+    Assertions.assertTrue(DeserializationMemoTest.isMemoized(memo, "a.b-c"));
+    Assertions.assertTrue(DeserializationMemoTest.isMemoized(memo, "ab"));
+    Assertions.assertTrue(DeserializationMemoTest.isMemoized(memo, "b"));
+  }
+
+  @Test
+  void memoizesByTarget() {
+    final var memo = new DeserializationMemo();
+    final var calls = new AtomicInteger();
+    Assertions.assertEquals("1", memo.get("a", String.class, null, () -> String.valueOf(calls.incrementAndGet())));
+    Assertions.assertEquals("1", memo.get("a", String.class, null, () -> String.valueOf(calls.incrementAndGet())));
+    Assertions.assertEquals(Integer.valueOf(2), memo.get("a", Integer.class, null, calls::incrementAndGet));
+    Assertions.assertNull(memo.get("b", String.class, null, () -> null));
+    Assertions.assertNull(memo.get("b", String.class, null, () -> "not memoized"));
+    Assertions.assertEquals(2, memo.getHits());
+    Assertions.assertEquals(3, memo.getMisses());
+  }
+
+  @Test
+  void skipsValuesReadWhileInvalidating() {
+    final var memo = new DeserializationMemo();
+    Assertions.assertEquals("old", memo.get("a", String.class, null, () -> {
+      memo.invalidate("a");
+      return "old";
+    }));
+    Assertions.assertEquals("new", memo.get("a", String.class, null, () -> "new"));
+    memo.get("b", String.class, null, () -> {
+      memo.invalidateAll();
+      return "old";
+    });
+    Assertions.assertEquals("new", memo.get("b", String.class, null, () -> "new"));
+  }
+}
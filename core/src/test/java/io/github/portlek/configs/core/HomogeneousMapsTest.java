@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.ObjectSerializer;
+import io.github.portlek.transformer.TransformRegistry;
+import io.github.portlek.transformer.TransformResolver;
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class HomogeneousMapsTest {
+
+  private static GenericDeclaration declaration(final Class<?> type) {
+    final var declaration = Mockito.mock(GenericDeclaration.class);
+    Mockito.doReturn(type).when(declaration).getType();
+    return declaration;
+  }
+
+  private static Map<Object, Object> map(final Object... entries) {
+    final var map = new LinkedHashMap<>();
+    for (var index = 0; index < entries.length; index += 2) {
+      map.put(entries[index], entries[index + 1]);
+    }
+    return map;
+  }
+
+  private static TransformResolver resolver(final TransformRegistry registry) {
+    final var resolver = Mockito.mock(TransformResolver.class);
+    Mockito.when(resolver.getRegistry()).thenReturn(registry);
+    return resolver;
+  }
+
+  @Test
+  void copiesTheDeclaredStringToPrimitiveMaps() {
+    final var resolver = HomogeneousMapsTest.resolver(Mockito.mock(TransformRegistry.class));
+    final var value = HomogeneousMapsTest.map("b", 2, "a", 1, "c", null);
+    final var copied = HomogeneousMaps.copy(resolver, value, HomogeneousMapsTest.declaration(String.class),
+      HomogeneousMapsTest.declaration(int.class), true);
+    Assertions.assertNotNull(copied);
+    Assertions.assertNotSame(value, copied);
+    Assertions.assertEquals(List.of("b", "a", "c"), List.copyOf(copied.keySet()));
+    Assertions.assertEquals(value, copied);
+  }
+
+  @Test
+  void fallsBackForMixedMaps() {
+    final var resolver = HomogeneousMapsTest.resolver(Mockito.mock(TransformRegistry.class));
+    final var keys = HomogeneousMapsTest.declaration(String.class);
+    final var values = HomogeneousMapsTest.declaration(Integer.class);
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, HomogeneousMapsTest.map("a", 1, "b", "2"), keys, values,
+      true));
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, HomogeneousMapsTest.map("a", 1, "b", 2L), keys, values,
+      true));
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, HomogeneousMapsTest.map("a", 1, 2, 2), keys, values, true));
+  }
+
+  @Test
+  void fallsBackForRegisteredSerializers() {
+    final var registry = Mockito.mock(TransformRegistry.class);
+    Mockito.doReturn(Mockito.mock(ObjectSerializer.class)).when(registry).getSerializer(Integer.class);
+    final var resolver = HomogeneousMapsTest.resolver(registry);
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, HomogeneousMapsTest.map("a", 1),
+      HomogeneousMapsTest.declaration(String.class), HomogeneousMapsTest.declaration(Integer.class), true));
+    Assertions.assertNotNull(HomogeneousMaps.copy(resolver, HomogeneousMapsTest.map("a", "b"),
+      HomogeneousMapsTest.declaration(String.class), HomogeneousMapsTest.declaration(String.class), true));
+  }
+
+  @Test
+  void fallsBackForTheOtherDeclarations() {
+    final var resolver = HomogeneousMapsTest.resolver(Mockito.mock(TransformRegistry.class));
+    final var value = HomogeneousMapsTest.map("a", 1);
+    final var keys = HomogeneousMapsTest.declaration(String.class);
+    final var values = HomogeneousMapsTest.declaration(Integer.class);
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, value, null, values, true));
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, value, keys, null, true));
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, value, HomogeneousMapsTest.declaration(Object.class),
+      values, true));
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, value, keys, HomogeneousMapsTest.declaration(List.class),
+      true));
+    Assertions.assertNull(HomogeneousMaps.copy(resolver, value, keys, values, false));
+  }
+}
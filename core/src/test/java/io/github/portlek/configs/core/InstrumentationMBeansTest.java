@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.lang.reflect.Proxy;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class InstrumentationMBeansTest {
+
+  private static ObjectName name(final String resolver, final String file) throws Exception {
+    return new ObjectName(String.format("io.github.portlek.configs:type=Resolver,resolver=%s,file=%s",
+      ObjectName.quote(resolver), ObjectName.quote(file)));
+  }
+
+  @Test
+  void exportsTheNewStats() throws Exception {
+    final var server = MBeanServerFactory.newMBeanServer();
+    final var instrumentation = new InMemoryInstrumentation();
+    try (final var ignored = InstrumentationMBeans.export(instrumentation, server)) {
+      instrumentation.onBytesRead("GsonJson", "config.json", 10L);
+      instrumentation.onCacheAccess("ItemStackCache", "shop", true);
+      final var name = InstrumentationMBeansTest.name("GsonJson", "config.json");
+      Assertions.assertEquals(10L, server.getAttribute(name, "BytesRead"));
+      Assertions.assertThrows(ReflectionException.class, () -> server.invoke(name, "reset", null, null));
+      final var cache = new ObjectName("io.github.portlek.configs:type=Cache,cache=\"ItemStackCache\",name=\"shop\"");
+      Assertions.assertEquals(1L, server.getAttribute(cache, "Hits"));
+      Assertions.assertFalse(server.isRegistered(InstrumentationMBeansTest.name("ItemStackCache", "shop")));
+    }
+    Assertions.assertFalse(server.isRegistered(InstrumentationMBeansTest.name("GsonJson", "config.json")));
+    Assertions.assertTrue(server.queryNames(null, null).stream()
+      .noneMatch(name -> "io.github.portlek.configs".equals(name.getDomain())));
+  }
+
+  @Test
+  void keepsTheMBeansOfTheOtherExporters() throws Exception {
+    final var server = MBeanServerFactory.newMBeanServer();
+    final var first = new InMemoryInstrumentation();
+    final var second = new InMemoryInstrumentation();
+    first.onBytesRead("GsonJson", "config.json", 10L);
+    second.onBytesRead("GsonJson", "config.json", 20L);
+    final var name = InstrumentationMBeansTest.name("GsonJson", "config.json");
+    try (final var ignored = InstrumentationMBeans.export(first, server)) {
+      InstrumentationMBeans.export(second, server).close();
+      Assertions.assertTrue(server.isRegistered(name));
+      Assertions.assertEquals(10L, server.getAttribute(name, "BytesRead"));
+    }
+    Assertions.assertFalse(server.isRegistered(name));
+  }
+
+  @Test
+  void logsTheRegistrationFailures() {
+    final var server = (MBeanServer) Proxy.newProxyInstance(MBeanServer.class.getClassLoader(),
+      new Class<?>[]{MBeanServer.class}, (proxy, method, args) -> {
+        if ("registerMBean".equals(method.getName())) {
+          throw new NotCompliantMBeanException("Registration is not allowed!");
+        }
+        return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+      });
+    final var instrumentation = new InMemoryInstrumentation();
+    try (final var ignored = InstrumentationMBeans.export(instrumentation, server)) {
+      Assertions.assertDoesNotThrow(() -> instrumentation.onBytesRead("GsonJson", "config.json", 10L));
+    }
+    Assertions.assertEquals(10L,
+      instrumentation.getStats("GsonJson", "config.json").orElseThrow().getBytesRead());
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class InstrumentationProbeTest {
+
+  private static InputStream failing() {
+    return new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("The disk is gone!");
+      }
+    };
+  }
+
+  private static InputStream source(final String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void countsOnlyTheParseFailures() {
+    final var instrumentation = new InMemoryInstrumentation();
+    final var probe = new InstrumentationProbe(InstrumentationProbeTest.class);
+    probe.setInstrumentation(instrumentation);
+    probe.setFile("config.json");
+    Assertions.assertThrows(IOException.class, () -> probe.load(InstrumentationProbeTest.source("{"), stream -> {
+      stream.readAllBytes();
+      throw new IOException("Unterminated object!");
+    }, () -> 0, () -> 0));
+    Assertions.assertThrows(IOException.class, () -> probe.load(InstrumentationProbeTest.failing(),
+      InputStream::readAllBytes, () -> 0, () -> 0));
+    final var stats = instrumentation.getStats("InstrumentationProbeTest", "config.json").orElseThrow();
+    Assertions.assertEquals(1L, stats.getParseFailures());
+    Assertions.assertEquals(2L, stats.getDurations(Instrumentation.Operation.LOAD).getCount());
+    Assertions.assertEquals(1L, stats.getBytesRead());
+  }
+
+  @Test
+  void measuresNothingWithoutAnInstrumentation() throws IOException {
+    final var probe = new InstrumentationProbe(InstrumentationProbeTest.class);
+    probe.setInstrumentation(Instrumentation.NOOP);
+    final var source = InstrumentationProbeTest.source("{}");
+    probe.load(source, stream -> Assertions.assertSame(source, stream), () -> 0, () -> 0);
+    Assertions.assertEquals(0L, probe.start());
+  }
+
+  @Test
+  void measuresTheBatchOperations() {
+    final var instrumentation = new InMemoryInstrumentation();
+    final var probe = new InstrumentationProbe(InstrumentationProbeTest.class);
+    probe.setInstrumentation(instrumentation);
+    probe.merged(probe.start());
+    probe.removed(probe.start());
+    probe.removed(probe.start());
+    probe.setAll(probe.start());
+    final var stats = instrumentation.getStats("InstrumentationProbeTest", InstrumentationProbe.UNKNOWN_FILE)
+      .orElseThrow();
+    Assertions.assertEquals(1L, stats.getDurations(Instrumentation.Operation.MERGE_DEFAULTS).getCount());
+    Assertions.assertEquals(2L, stats.getDurations(Instrumentation.Operation.REMOVE_VALUE).getCount());
+    Assertions.assertEquals(1L, stats.getDurations(Instrumentation.Operation.SET_VALUES).getCount());
+  }
+}
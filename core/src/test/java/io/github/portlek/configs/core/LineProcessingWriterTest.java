@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class LineProcessingWriterTest {
+
+  @Test
+  void keepsUnchangedLinesAcrossChunks() throws IOException {
+    final var output = new StringWriter();
+    final var writer = new LineProcessingWriter(output);
+    writer.write("fir");
+    writer.write("st\nsec".toCharArray());
+    writer.write("ond\nthird");
+    writer.finish();
+    Assertions.assertEquals("first\nsecond\nthird", output.toString());
+  }
+
+  @Test
+  void removesAndUpdatesLines() throws IOException {
+    final var output = new StringWriter();
+    final var writer = new LineProcessingWriter(output)
+      .removeLinesStartingWith("#")
+      .updateLines(line -> LineProcessingWriter.startsWith(line, "a", 0) ? "# a\n" + line : line);
+    writer.write("# old comment\na = 1\nb = 2\n");
+    writer.finish();
+    Assertions.assertEquals("# a\na = 1\nb = 2\n", output.toString());
+  }
+
+  @Test
+  void tracksTheSectionPaths() throws IOException {
+    final var output = new StringWriter();
+    final var paths = new ArrayList<String>();
+    final var writer = new LineProcessingWriter(output)
+      .updateSectionLines((line, name, indent, path) -> {
+        paths.add(String.join(".", path));
+        return line;
+      });
+    writer.write("a:\n  b: 1\n  c:\n    d: 2\n  - item\ne: 3\n");
+    writer.finish();
+    Assertions.assertEquals(List.of("a", "a.b", "a.c", "a.c.d", "e"), paths);
+    Assertions.assertEquals("a:\n  b: 1\n  c:\n    d: 2\n  - item\ne: 3\n", output.toString());
+  }
+
+  @Test
+  void checksPrefixesWithoutCopies() {
+    Assertions.assertTrue(LineProcessingWriter.startsWith("path = 1", "path", 0));
+    Assertions.assertTrue(LineProcessingWriter.startsWith("\"path\"", "path", 1));
+    Assertions.assertFalse(LineProcessingWriter.startsWith("pat", "path", 0));
+    Assertions.assertFalse(LineProcessingWriter.startsWith("path", "h", 4));
+  }
+}
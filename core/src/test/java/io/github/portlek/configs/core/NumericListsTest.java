@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class NumericListsTest {
+
+  private static List<Object> list(final Object... values) {
+    final var list = new ArrayList<>();
+    Collections.addAll(list, values);
+    return list;
+  }
+
+  @Test
+  void compactsHomogeneousLists() {
+    Assertions.assertTrue(NumericLists.compact(NumericListsTest.list(1, 2, 3, 4, 5, 6, 7, 8))
+      instanceof CompactIntList);
+    Assertions.assertTrue(NumericLists.compact(NumericListsTest.list(1, 2L, 3, 4, 5, 6, 7, 8))
+      instanceof CompactLongList);
+    Assertions.assertTrue(NumericLists.compact(NumericListsTest.list(1.0, 2.5, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0))
+      instanceof CompactDoubleList);
+  }
+
+  @Test
+  void keepsMixedIntegralAndFloatingLists() {
+    final var mixed = NumericListsTest.list(1, 2.5, 3, 4, 5, 6, 7, 8);
+    Assertions.assertSame(mixed, NumericLists.compact(mixed));
+    final var bigLong = (1L << 53) + 1;
+    final var mixedLongs = NumericListsTest.list(1.5, bigLong, 3.5, 4.5, 5.5, 6.5, 7.5, 8.5);
+    final var compacted = NumericLists.compact(mixedLongs);
+    Assertions.assertSame(mixedLongs, compacted);
+    Assertions.assertEquals(bigLong, compacted.get(1));
+  }
+
+  @Test
+  void keepsNarrowNumericLists() {
+    final var floats = NumericListsTest.list(1.0f, 2.5f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f);
+    Assertions.assertSame(floats, NumericLists.compact(floats));
+    final var mixedFloats = NumericListsTest.list(1.0, 2.5f, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    Assertions.assertSame(mixedFloats, NumericLists.compact(mixedFloats));
+    final var shorts = NumericListsTest.list((short) 1, 2, 3, 4, 5, 6, 7, (byte) 8);
+    Assertions.assertSame(shorts, NumericLists.compact(shorts));
+  }
+
+  @Test
+  void keepsShortAndNonNumericLists() {
+    final var small = NumericListsTest.list(1, 2, 3);
+    Assertions.assertSame(small, NumericLists.compact(small));
+    final var withNull = NumericListsTest.list(1, 2, 3, 4, null, 6, 7, 8);
+    Assertions.assertSame(withNull, NumericLists.compact(withNull));
+    final var withString = NumericListsTest.list(1, 2, 3, 4, "5", 6, 7, 8);
+    Assertions.assertSame(withString, NumericLists.compact(withString));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import io.github.portlek.transformer.ObjectSerializer;
+import io.github.portlek.transformer.TransformRegistry;
+import io.github.portlek.transformer.TransformResolver;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class SerializationDecisionTest {
+
+  private static TransformResolver resolver(final TransformRegistry registry) {
+    final var resolver = Mockito.mock(TransformResolver.class);
+    Mockito.when(resolver.getRegistry()).thenReturn(registry);
+    return resolver;
+  }
+
+  @Test
+  void cachesTheSameDecisionPerType() {
+    Assertions.assertSame(SerializationDecision.of(String.class), SerializationDecision.of("value"));
+    Assertions.assertSame(SerializationDecision.of(Integer.class), SerializationDecision.of(42));
+  }
+
+  @Test
+  void charactersAreNeverConservative() {
+    Assertions.assertEquals(SerializationDecision.CHARACTER, SerializationDecision.of('c'));
+    Assertions.assertEquals(SerializationDecision.CHARACTER, SerializationDecision.of(char.class));
+    Assertions.assertFalse(SerializationDecision.CHARACTER.isPassThrough(true));
+    Assertions.assertFalse(SerializationDecision.CHARACTER.isConservative(true));
+  }
+
+  @Test
+  void collectionsAndMapsAreDelegated() {
+    Assertions.assertEquals(SerializationDecision.OBJECT, SerializationDecision.of(List.of(1)));
+    Assertions.assertEquals(SerializationDecision.OBJECT, SerializationDecision.of(Map.of("a", 1)));
+    Assertions.assertFalse(SerializationDecision.OBJECT.isPassThrough(true));
+    Assertions.assertTrue(SerializationDecision.OBJECT.isConservative(true));
+  }
+
+  @Test
+  void looksUpTheRegistryOncePerType() {
+    final var registry = Mockito.mock(TransformRegistry.class);
+    final var resolver = SerializationDecisionTest.resolver(registry);
+    Assertions.assertTrue(SerializationDecision.isPassThrough(resolver, long.class, true));
+    Assertions.assertTrue(SerializationDecision.isPassThrough(resolver, long.class, true));
+    Mockito.verify(registry, Mockito.times(1)).getSerializer(Long.class);
+    SerializationDecision.invalidate(resolver);
+    Mockito.doReturn(Mockito.mock(ObjectSerializer.class)).when(registry).getSerializer(Long.class);
+    Assertions.assertFalse(SerializationDecision.isPassThrough(resolver, long.class, true));
+    Mockito.verify(registry, Mockito.times(2)).getSerializer(Long.class);
+  }
+
+  @Test
+  void neverSkipsTheRegisteredSerializers() {
+    final var registry = Mockito.mock(TransformRegistry.class);
+    Mockito.doReturn(Mockito.mock(ObjectSerializer.class)).when(registry).getSerializer(String.class);
+    final var resolver = SerializationDecisionTest.resolver(registry);
+    Assertions.assertFalse(SerializationDecision.isPassThrough(resolver, String.class, true));
+    Assertions.assertTrue(SerializationDecision.isPassThrough(resolver, Integer.class, true));
+    Assertions.assertFalse(SerializationDecision.isPassThrough(resolver, Integer.class, false));
+    Assertions.assertFalse(SerializationDecision.isPassThrough(SerializationDecisionTest.resolver(
+      Mockito.mock(TransformRegistry.class)), List.class, true));
+  }
+
+  @Test
+  void primitivesPassThroughOnlyWhenConservative() {
+    for (final var value : List.of(true, (byte) 1, (short) 1, 1, 1L, 1.0f, 1.0d)) {
+      Assertions.assertEquals(SerializationDecision.PRIMITIVE, SerializationDecision.of(value));
+    }
+    Assertions.assertEquals(SerializationDecision.PRIMITIVE, SerializationDecision.of(int.class));
+    Assertions.assertTrue(SerializationDecision.PRIMITIVE.isPassThrough(true));
+    Assertions.assertFalse(SerializationDecision.PRIMITIVE.isPassThrough(false));
+  }
+
+  @Test
+  void stringsAlwaysPassThrough() {
+    Assertions.assertEquals(SerializationDecision.STRING, SerializationDecision.of("value"));
+    Assertions.assertTrue(SerializationDecision.STRING.isPassThrough(true));
+    Assertions.assertTrue(SerializationDecision.STRING.isPassThrough(false));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class StreamingValuesTest {
+
+  private static StreamingValues.Source source(final Iterator<?> iterator, final List<Object> read) {
+    return new StreamingValues.Source() {
+      @Override
+      public boolean hasNext() throws IOException {
+        if (!iterator.hasNext()) {
+          return false;
+        }
+        final var next = iterator.next();
+        if (next instanceof IOException) {
+          throw (IOException) next;
+        }
+        read.add(next);
+        return true;
+      }
+
+      @Override
+      public Object next() {
+        return read.get(read.size() - 1);
+      }
+    };
+  }
+
+  @Test
+  void closesOnceWhenExhausted() {
+    final var closes = new AtomicInteger();
+    final var read = new ArrayList<>();
+    final var stream = StreamingValues.of(StreamingValuesTest.source(List.of(1, 2, 3).iterator(), read),
+      closes::incrementAndGet);
+    Assertions.assertEquals(List.of(1, 2, 3), stream.collect(Collectors.toList()));
+    Assertions.assertEquals(1, closes.get());
+    stream.close();
+    Assertions.assertEquals(1, closes.get());
+  }
+
+  @Test
+  void closesOnEarlyClose() {
+    final var closes = new AtomicInteger();
+    final var read = new ArrayList<>();
+    try (var stream = StreamingValues.of(StreamingValuesTest.source(List.of(1, 2, 3).iterator(), read),
+      closes::incrementAndGet)) {
+      Assertions.assertEquals(List.of(1), stream.limit(1).collect(Collectors.toList()));
+      Assertions.assertEquals(0, closes.get());
+    }
+    Assertions.assertEquals(1, closes.get());
+  }
+
+  @Test
+  void closesOnError() {
+    final var closes = new AtomicInteger();
+    final var read = new ArrayList<>();
+    final var stream = StreamingValues.of(
+      StreamingValuesTest.source(List.of(1, new IOException("broken"), 3).iterator(), read),
+      closes::incrementAndGet);
+    final var iterator = stream.iterator();
+    Assertions.assertEquals(1, iterator.next());
+    Assertions.assertThrows(UncheckedIOException.class, iterator::hasNext);
+    Assertions.assertEquals(1, closes.get());
+  }
+
+  @Test
+  void readsLazily() {
+    final var closes = new AtomicInteger();
+    final var read = new ArrayList<>();
+    final var stream = StreamingValues.of(StreamingValuesTest.source(List.of(1, 2, 3).iterator(), read),
+      closes::incrementAndGet);
+    Assertions.assertTrue(read.isEmpty());
+    final var iterator = stream.iterator();
+    Assertions.assertEquals(1, iterator.next());
+    Assertions.assertEquals(List.of(1), read);
+    Assertions.assertEquals(0, closes.get());
+  }
+}
@@ -27,18 +27,37 @@ package io.github.portlek.configs.gsonjson;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.NumericLists;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
+import io.github.portlek.configs.core.StreamingValues;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
-import io.github.portlek.transformer.postprocessor.PostProcessor;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -46,8 +65,8 @@ import org.jetbrains.annotations.Nullable;
 /**
  * a class that represents Gson file configuration.
  */
-@RequiredArgsConstructor
-public class GsonJson extends TransformResolver {
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class GsonJson extends TransformResolver implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
    * the gson.
@@ -55,16 +74,114 @@ public class GsonJson extends TransformResolver {
   @NotNull
   private final Gson gson;
 
+  /**
+   * the gson that reads the loaded json.
+   * <p>
+   * it is derived from {@link #gson}, so it keeps the adapters and the settings of the caller, and reads the untyped
+   * numbers in their narrowest type.
+   */
+  @NotNull
+  private final Gson reader;
+
+  /**
+   * the compact numeric arrays.
+   */
+  private final boolean compactNumericArrays;
+
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the cache map.
    */
   private Map<String, Object> map = new LinkedHashMap<>();
 
+  /**
+   * ctor.
+   *
+   * @param gson the gson.
+   * @param compactNumericArrays the compact numeric arrays.
+   */
+  public GsonJson(@NotNull final Gson gson, final boolean compactNumericArrays) {
+    this(gson, gson.newBuilder().setObjectToNumberStrategy(NumberPreservingStrategy.INSTANCE).create(),
+      compactNumericArrays);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param gson the gson.
+   */
+  public GsonJson(@NotNull final Gson gson) {
+    this(gson, false);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param compactNumericArrays the compact numeric arrays.
+   */
+  public GsonJson(final boolean compactNumericArrays) {
+    this(new GsonBuilder().setPrettyPrinting().create(), compactNumericArrays);
+  }
+
   /**
    * ctor.
    */
   public GsonJson() {
-    this(new GsonBuilder().setPrettyPrinting().create());
+    this(false);
+  }
+
+  /**
+   * moves the reader into the array at the path.
+   *
+   * @param reader the reader to move.
+   * @param path the path to move.
+   *
+   * @return {@code true} if the reader is at the start of the array.
+   *
+   * @throws IOException if something goes wrong when reading or the path is not an array.
+   */
+  private static boolean moveToArray(@NotNull final JsonReader reader, @NotNull final String path)
+    throws IOException {
+    try {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        return false;
+      }
+    } catch (final EOFException e) {
+      return false;
+    }
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (!path.equals(reader.nextName())) {
+        reader.skipValue();
+        continue;
+      }
+      if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+        throw new IOException(String.format("%s is not an array", path));
+      }
+      reader.beginArray();
+      return true;
+    }
+    return false;
   }
 
   @NotNull
@@ -76,16 +193,28 @@ public class GsonJson extends TransformResolver {
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.map.get(path));
+    final var started = this.probe.start();
+    final var value = Optional.ofNullable(this.map.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
-  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    //noinspection unchecked
-    this.map = this.gson.fromJson(PostProcessor.of(inputStream).getContext(), Map.class);
-    if (this.map == null) {
-      this.map = new LinkedHashMap<>();
-    }
+  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.load(inputStream, this::loadValues,
+      () -> this.map.size(), () -> InstrumentationProbe.countNodes(this.map));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, this.map::containsKey);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
@@ -96,17 +225,142 @@ public class GsonJson extends TransformResolver {
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.remove(path);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.map.clear();
+    this.deserializationMemo.invalidateAll();
   }
 
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.put(path, this.serialize(value, genericType, true));
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
+  }
+
+  @Override
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
+  }
+
+  /**
+   * streams the values of the array at the path lazily from the source, without loading the whole document.
+   *
+   * @param source the source to stream.
+   * @param path the path of the array to stream.
+   *
+   * @return a lazy stream of the array values. the stream closes the source when it is exhausted or closed.
+   *
+   * @throws IOException if something goes wrong when reading the source or the path is not an array.
+   */
+  @NotNull
+  public Stream<Object> streamValues(@NotNull final InputStream source, @NotNull final String path)
+    throws IOException {
+    final var reader = new JsonReader(new InputStreamReader(source, StandardCharsets.UTF_8));
+    reader.setLenient(true);
+    try {
+      if (GsonJson.moveToArray(reader, path)) {
+        return StreamingValues.of(new StreamingValues.Source() {
+          @Override
+          public boolean hasNext() throws IOException {
+            return reader.hasNext();
+          }
+
+          @Override
+          public Object next() {
+            return GsonJson.this.read(GsonJson.this.reader.fromJson(reader, Object.class));
+          }
+        }, reader);
+      }
+    } catch (final IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+    reader.close();
+    return Stream.empty();
   }
 
   @Override
-  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    this.gson.toJson(this.map, new OutputStreamWriter(outputStream));
+  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.write(outputStream, this::writeValues);
+  }
+
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   *
+   * @throws IOException if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream) throws IOException {
+    final var before = this.map;
+    final var context = ReadBuffers.readString(inputStream);
+    if (context.isBlank()) {
+      this.map = new LinkedHashMap<>();
+      this.deserializationMemo.invalidateAll();
+      this.changeNotifier.onReload(before, this.map);
+      return;
+    }
+    final var value = this.read(this.reader.fromJson(context, Map.class));
+    //noinspection unchecked
+    this.map = value == null
+      ? new LinkedHashMap<>()
+      : (Map<String, Object>) value;
+    this.deserializationMemo.invalidateAll();
+    this.changeNotifier.onReload(before, this.map);
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
+    }
+    this.map.putAll(serialized);
+    this.deserializationMemo.invalidateAll();
+  }
+
+  /**
+   * compacts the read value if the numeric arrays are compacted.
+   *
+   * @param value the value to compact.
+   *
+   * @return read value.
+   */
+  @Nullable
+  private Object read(@Nullable final Object value) {
+    return this.compactNumericArrays
+      ? NumericLists.compactAll(value)
+      : value;
+  }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream) throws IOException {
+    final var writer = new OutputStreamWriter(outputStream);
+    this.gson.toJson(this.map, writer);
+    writer.flush();
   }
 }
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import com.google.gson.ToNumberStrategy;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that reads the untyped json numbers in their narrowest type.
+ * <p>
+ * integers become {@link Integer} or {@link Long}, and the ones that do not fit into a long become
+ * {@link BigInteger}. decimals become {@link Double}, and the ones that do not fit into a double become
+ * {@link BigDecimal}.
+ */
+final class NumberPreservingStrategy implements ToNumberStrategy {
+
+  /**
+   * the instance.
+   */
+  static final NumberPreservingStrategy INSTANCE = new NumberPreservingStrategy();
+
+  /**
+   * ctor.
+   */
+  private NumberPreservingStrategy() {
+  }
+
+  /**
+   * parses the number into the narrowest number type that can hold it.
+   *
+   * @param number the number to parse.
+   *
+   * @return parsed number.
+   */
+  @NotNull
+  private static Number parseNumber(@NotNull final String number) {
+    if (number.indexOf('.') != -1 || number.indexOf('e') != -1 || number.indexOf('E') != -1) {
+      final var value = Double.parseDouble(number);
+      return Double.isInfinite(value)
+        ? new BigDecimal(number)
+        : value;
+    }
+    try {
+      final var value = Long.parseLong(number);
+      if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+        return (int) value;
+      }
+      return value;
+    } catch (final NumberFormatException e) {
+      return new BigInteger(number);
+    }
+  }
+
+  @NotNull
+  @Override
+  public Number readNumber(@NotNull final JsonReader in) throws IOException {
+    return NumberPreservingStrategy.parseNumber(in.nextString());
+  }
+}
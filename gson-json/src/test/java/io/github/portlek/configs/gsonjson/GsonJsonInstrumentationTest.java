@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import io.github.portlek.configs.core.InMemoryInstrumentation;
+import io.github.portlek.configs.core.Instrumentation;
+import io.github.portlek.configs.core.ResolverPool;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class GsonJsonInstrumentationTest {
+
+  @Test
+  void measuresTheOperationsByFile() throws Exception {
+    final var instrumentation = new InMemoryInstrumentation();
+    final var resolver = new ResolverPool<>(GsonJson::new, 1).acquire("players/first.json");
+    resolver.getProbe().setInstrumentation(instrumentation);
+    resolver.load(new ByteArrayInputStream("{\"a\":1}".getBytes(StandardCharsets.UTF_8)), null);
+    resolver.setValues(Map.of("b", 2));
+    resolver.mergeDefaults(Map.of("c", 3));
+    resolver.removeValue("a", null, null);
+    final var stats = instrumentation.getStats("GsonJson", "players/first.json").orElseThrow();
+    Assertions.assertEquals(1L, stats.getDurations(Instrumentation.Operation.LOAD).getCount());
+    Assertions.assertEquals(1L, stats.getDurations(Instrumentation.Operation.SET_VALUES).getCount());
+    Assertions.assertEquals(1L, stats.getDurations(Instrumentation.Operation.MERGE_DEFAULTS).getCount());
+    Assertions.assertEquals(1L, stats.getDurations(Instrumentation.Operation.REMOVE_VALUE).getCount());
+    Assertions.assertEquals(7L, stats.getBytesRead());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import io.github.portlek.configs.core.LayeredResolver;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class GsonJsonLayersTest {
+
+  private static ByteArrayInputStream input(final String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static GsonJson layer(final String json) throws Exception {
+    final var layer = new GsonJson();
+    layer.load(GsonJsonLayersTest.input(json), null);
+    return layer;
+  }
+
+  @Test
+  void mergesNestedSections() throws Exception {
+    final var resolver = new LayeredResolver(List.of(
+      GsonJsonLayersTest.layer("{\"section\":{\"a\":1,\"b\":{\"c\":2,\"d\":3}},\"x\":1}"),
+      GsonJsonLayersTest.layer("{\"section\":{\"b\":{\"d\":4}}}")));
+    Assertions.assertEquals(Map.of("a", 1, "b", Map.of("c", 2, "d", 4)), resolver.getValue("section").orElseThrow());
+    Assertions.assertEquals(1, resolver.getValue("x").orElseThrow());
+  }
+
+  @Test
+  void replacesValuesThatAreNotSections() throws Exception {
+    final var resolver = new LayeredResolver(List.of(
+      GsonJsonLayersTest.layer("{\"section\":{\"a\":1},\"list\":[1,2]}"),
+      GsonJsonLayersTest.layer("{\"section\":\"disabled\",\"list\":[3]}")));
+    Assertions.assertEquals("disabled", resolver.getValue("section").orElseThrow());
+    Assertions.assertEquals(List.of(3), resolver.getValue("list").orElseThrow());
+  }
+
+  @Test
+  void keepsTheKeyOrderOnReload() throws Exception {
+    final var resolver = new LayeredResolver(List.of(
+      GsonJsonLayersTest.layer("{\"a\":1,\"b\":{\"c\":1},\"d\":1}"),
+      GsonJsonLayersTest.layer("{\"b\":{\"c\":2}}")));
+    Assertions.assertEquals(List.of("a", "b", "d"), resolver.getAllKeys());
+    resolver.reload(1, GsonJsonLayersTest.input("{\"d\":2,\"e\":1}"), null);
+    Assertions.assertEquals(List.of("a", "b", "d", "e"), resolver.getAllKeys());
+    Assertions.assertEquals(Map.of("c", 1), resolver.getValue("b").orElseThrow());
+    resolver.reload(1, GsonJsonLayersTest.input("{\"b\":{\"c\":3}}"), null);
+    resolver.refresh();
+    Assertions.assertEquals(List.of("a", "b", "d"), resolver.getAllKeys());
+    Assertions.assertEquals(Map.of("c", 3), resolver.getValue("b").orElseThrow());
+  }
+}
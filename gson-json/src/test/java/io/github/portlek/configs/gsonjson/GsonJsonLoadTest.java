@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class GsonJsonLoadTest {
+
+  private static void load(final GsonJson resolver, final String json) throws Exception {
+    resolver.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null);
+  }
+
+  @Test
+  void compactsTheNumericArraysWhenAsked() throws Exception {
+    final var resolver = new GsonJson(true);
+    GsonJsonLoadTest.load(resolver, "{\"ints\":[1,2,3,4,5,6,7,8,9,10],\"nested\":{\"mixed\":[1,\"a\"]}}");
+    final var ints = (List<?>) resolver.getValue("ints").orElseThrow();
+    Assertions.assertEquals(10, ints.size());
+    Assertions.assertEquals(1, ints.get(0));
+    final var nested = (Map<?, ?>) resolver.getValue("nested").orElseThrow();
+    Assertions.assertEquals(List.of(1, "a"), nested.get("mixed"));
+  }
+
+  @Test
+  void keepsTheNarrowestNumberTypes() throws Exception {
+    final var resolver = new GsonJson();
+    GsonJsonLoadTest.load(resolver, "{\"b\":1,\"a\":9000000000,\"c\":123456789012345678901234567890}");
+    Assertions.assertEquals(List.of("b", "a", "c"), resolver.getAllKeys());
+    Assertions.assertEquals(1, resolver.getValue("b").orElseThrow());
+    Assertions.assertEquals(9_000_000_000L, resolver.getValue("a").orElseThrow());
+    Assertions.assertEquals(new BigInteger("123456789012345678901234567890"), resolver.getValue("c").orElseThrow());
+  }
+
+  @Test
+  void loadsThroughTheConfiguredGson() throws Exception {
+    final var gson = new GsonBuilder()
+      .registerTypeAdapter(Map.class, new TypeAdapter<Map<String, Object>>() {
+        @Override
+        public Map<String, Object> read(final JsonReader in) throws IOException {
+          in.skipValue();
+          return new LinkedHashMap<>(Map.of("custom", true));
+        }
+
+        @Override
+        public void write(final JsonWriter out, final Map<String, Object> value) {
+        }
+      })
+      .create();
+    final var resolver = new GsonJson(gson);
+    GsonJsonLoadTest.load(resolver, "{\"a\":1}");
+    Assertions.assertEquals(List.of("custom"), resolver.getAllKeys());
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import io.github.portlek.configs.core.ConfigChange;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.ResolverPool;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class GsonJsonResetTest {
+
+  private static void load(final GsonJson resolver, final String json) throws Exception {
+    resolver.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null);
+  }
+
+  @Test
+  void firstLoadIsNotReportedAsReload() throws Exception {
+    final var resolver = new GsonJson();
+    final var changes = new ArrayList<ConfigChange>();
+    resolver.getChangeNotifier().addListener(changes::add);
+    GsonJsonResetTest.load(resolver, "{\"a\":1}");
+    Assertions.assertTrue(changes.isEmpty());
+    GsonJsonResetTest.load(resolver, "{\"a\":2}");
+    Assertions.assertEquals(1, changes.size());
+    Assertions.assertEquals(List.of("a"), List.copyOf(changes.get(0).getModified()));
+  }
+
+  @Test
+  void pooledResolverForgetsThePreviousOwner() throws Exception {
+    final var pool = new ResolverPool<>(GsonJson::new, 1);
+    final var first = pool.acquire("players/first.json");
+    Assertions.assertEquals("players/first.json", first.getProbe().getFile());
+    final var changes = new ArrayList<ConfigChange>();
+    first.getChangeNotifier().addListener(changes::add);
+    GsonJsonResetTest.load(first, "{\"a\":1}");
+    pool.release(first);
+    final var second = pool.acquire();
+    Assertions.assertSame(first, second);
+    Assertions.assertFalse(second.getChangeNotifier().hasListeners());
+    Assertions.assertEquals(InstrumentationProbe.UNKNOWN_FILE, second.getProbe().getFile());
+    final var secondChanges = new ArrayList<ConfigChange>();
+    second.getChangeNotifier().addListener(secondChanges::add);
+    GsonJsonResetTest.load(second, "{\"b\":1}");
+    Assertions.assertTrue(changes.isEmpty());
+    Assertions.assertTrue(secondChanges.isEmpty());
+    Assertions.assertTrue(second.getValue("a").isEmpty());
+  }
+}
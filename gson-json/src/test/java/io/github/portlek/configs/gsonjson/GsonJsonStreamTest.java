@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class GsonJsonStreamTest {
+
+  private static final String JSON = "{\"skip\":{\"a\":[1,2]},\"items\":[1,\"two\",{\"three\":3},[4]],\"name\":\"x\"}";
+
+  @Test
+  void closesTheSourceOnEarlyClose() throws IOException {
+    final var source = new TrackedSource(GsonJsonStreamTest.JSON);
+    try (var stream = new GsonJson().streamValues(source, "items")) {
+      Assertions.assertEquals(List.of(1), stream.limit(1).collect(Collectors.toList()));
+      Assertions.assertFalse(source.closed);
+    }
+    Assertions.assertTrue(source.closed);
+  }
+
+  @Test
+  void returnsAnEmptyStreamForAMissingPath() throws IOException {
+    final var source = new TrackedSource(GsonJsonStreamTest.JSON);
+    try (var stream = new GsonJson().streamValues(source, "missing")) {
+      Assertions.assertEquals(0, stream.count());
+    }
+    Assertions.assertTrue(source.closed);
+  }
+
+  @Test
+  void rejectsAPathThatIsNotAnArray() {
+    final var source = new TrackedSource(GsonJsonStreamTest.JSON);
+    Assertions.assertThrows(IOException.class, () -> new GsonJson().streamValues(source, "name"));
+    Assertions.assertTrue(source.closed);
+  }
+
+  @Test
+  void streamsTheArrayValues() throws IOException {
+    final var source = new TrackedSource(GsonJsonStreamTest.JSON);
+    try (var stream = new GsonJson().streamValues(source, "items")) {
+      Assertions.assertEquals(List.of(1, "two", Map.of("three", 3), List.of(4)), stream.collect(Collectors.toList()));
+    }
+    Assertions.assertTrue(source.closed);
+  }
+
+  private static final class TrackedSource extends ByteArrayInputStream {
+
+    private boolean closed;
+
+    private TrackedSource(final String json) {
+      super(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+    }
+  }
+}
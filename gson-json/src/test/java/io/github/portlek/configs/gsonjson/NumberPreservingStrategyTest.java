@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.gsonjson;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class NumberPreservingStrategyTest {
+
+  private static Object read(final String json) {
+    return new GsonBuilder()
+      .setObjectToNumberStrategy(NumberPreservingStrategy.INSTANCE)
+      .create()
+      .fromJson(json, Object.class);
+  }
+
+  @Test
+  void keepsNarrowestNumberTypes() {
+    final var value = (Map<?, ?>) NumberPreservingStrategyTest.read(
+      "{\"int\":1,\"long\":9000000000,\"double\":1.5,\"big\":123456789012345678901234567890,\"huge\":1e400}");
+    Assertions.assertEquals(1, value.get("int"));
+    Assertions.assertEquals(9_000_000_000L, value.get("long"));
+    Assertions.assertEquals(1.5d, value.get("double"));
+    Assertions.assertEquals(new BigInteger("123456789012345678901234567890"), value.get("big"));
+    Assertions.assertEquals(new BigDecimal("1e400"), value.get("huge"));
+  }
+
+  @Test
+  void keepsOrderAndNulls() {
+    final var value = (Map<?, ?>) NumberPreservingStrategyTest.read("{\"b\":[true,null,\"x\"],\"a\":null}");
+    Assertions.assertEquals(List.of("b", "a"), List.copyOf(value.keySet()));
+    Assertions.assertTrue(value.containsKey("a"));
+    Assertions.assertEquals(3, ((List<?>) value.get("b")).size());
+  }
+
+  @Test
+  void rejectsTrailingContent() {
+    Assertions.assertThrows(JsonParseException.class, () -> NumberPreservingStrategyTest.read("{\"a\":1} {\"b\":2}"));
+    Assertions.assertThrows(JsonParseException.class, () -> NumberPreservingStrategyTest.read("{\"a\":1} garbage"));
+  }
+
+  @Test
+  void acceptsTrailingWhitespace() {
+    Assertions.assertEquals(Map.of("a", 1), NumberPreservingStrategyTest.read("{\"a\":1}\n  \n"));
+  }
+}
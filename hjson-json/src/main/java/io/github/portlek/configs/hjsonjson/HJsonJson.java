@@ -31,6 +31,17 @@ import eu.okaeri.hjson.JsonArray;
 import eu.okaeri.hjson.JsonObject;
 import eu.okaeri.hjson.JsonValue;
 import eu.okaeri.hjson.Stringify;
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.HomogeneousMaps;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
+import io.github.portlek.configs.core.SerializationDecision;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
@@ -38,15 +49,21 @@ import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
 import io.github.portlek.transformer.postprocessor.PostProcessor;
 import io.github.portlek.transformer.postprocessor.SectionSeparator;
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -55,7 +72,7 @@ import org.jetbrains.annotations.Nullable;
  * a class that represents HJson file configuration.
  */
 @RequiredArgsConstructor
-public class HJsonJson extends TransformResolver {
+public class HJsonJson extends TransformResolver implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
    * the read options.
@@ -74,6 +91,27 @@ public class HJsonJson extends TransformResolver {
    */
   private final String sectionSeparator;
 
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the json.
    */
@@ -95,6 +133,27 @@ public class HJsonJson extends TransformResolver {
     this("# ");
   }
 
+  /**
+   * counts the objects, arrays and values of the json value.
+   *
+   * @param value the value to count.
+   *
+   * @return node count.
+   */
+  private static int countNodes(@NotNull final JsonValue value) {
+    var count = 1;
+    if (value instanceof JsonObject) {
+      for (final var member : (JsonObject) value) {
+        count += HJsonJson.countNodes(member.getValue());
+      }
+    } else if (value instanceof JsonArray) {
+      for (final var item : (JsonArray) value) {
+        count += HJsonJson.countNodes(item);
+      }
+    }
+    return count;
+  }
+
   @NotNull
   @Override
   public List<String> getAllKeys() {
@@ -106,12 +165,29 @@ public class HJsonJson extends TransformResolver {
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return this.fromJsonValue(this.json.get(path));
+    final var started = this.probe.start();
+    final var value = this.fromJsonValue(this.json.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
-  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    this.json = JsonValue.readHjson(PostProcessor.of(inputStream).getContext(), HJsonJson.READ_OPTIONS).asObject();
+  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.load(inputStream, this::loadValues,
+      () -> this.json.names().size(), () -> HJsonJson.countNodes(this.json));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var names = new HashSet<>(this.json.names());
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, names::contains);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
@@ -122,7 +198,18 @@ public class HJsonJson extends TransformResolver {
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.json.remove(path);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.json = new JsonObject();
+    this.deserializationMemo.invalidateAll();
   }
 
   @Override
@@ -131,11 +218,10 @@ public class HJsonJson extends TransformResolver {
     if (value == null) {
       return null;
     }
-    final var genericsDeclaration = GenericDeclaration.of(value);
-    if (genericsDeclaration.getType() == char.class || genericsDeclaration.getType() == Character.class) {
-      return super.serialize(value, genericType, false);
+    if (SerializationDecision.isPassThrough(this, value.getClass(), conservative)) {
+      return value;
     }
-    return super.serialize(value, genericType, conservative);
+    return super.serialize(value, genericType, SerializationDecision.of(value).isConservative(conservative));
   }
 
   @NotNull
@@ -143,13 +229,17 @@ public class HJsonJson extends TransformResolver {
   public Map<Object, Object> serializeMap(@NotNull final Map<Object, Object> value,
                                           @Nullable final GenericDeclaration genericType, final boolean conservative)
     throws TransformException {
-    final var map = new LinkedHashMap<>();
     final var keyDeclaration = genericType == null
       ? null
       : genericType.getSubTypeAt(0).orElse(null);
     final var valueDeclaration = genericType == null
       ? null
       : genericType.getSubTypeAt(1).orElse(null);
+    final var copied = HomogeneousMaps.copy(this, value, keyDeclaration, valueDeclaration, conservative);
+    if (copied != null) {
+      return copied;
+    }
+    final var map = HomogeneousMaps.newMap(value.size());
     value.forEach((key1, value1) -> {
       final var key = this.serialize(key1, keyDeclaration, false);
       final var kValue = this.serialize(value1, valueDeclaration, conservative);
@@ -161,22 +251,24 @@ public class HJsonJson extends TransformResolver {
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.json.set(path, this.toJsonValue(this.serialize(value, genericType, true)));
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
+  }
+
+  @Override
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
   }
 
   @Override
   public void write(@NotNull final OutputStream outputStream,
-                    @NotNull final TransformedObjectDeclaration declaration) {
-    this.addComments(this.json, declaration, null);
-    final var header = declaration.getHeader();
-    final var comments = header == null
-      ? null
-      : header.value();
-    final var comment = PostProcessor.createComment(this.commentPrefix, comments);
-    this.json.setFullComment(CommentType.BOL, comment.isEmpty()
-      ? ""
-      : comment + this.sectionSeparator);
-    PostProcessor.of(this.json.toString(Stringify.HJSON_COMMENTS)).write(outputStream);
+                    @NotNull final TransformedObjectDeclaration declaration) throws IOException {
+    this.probe.write(outputStream, output -> this.writeValues(output, declaration));
   }
 
   /**
@@ -251,6 +343,39 @@ public class HJsonJson extends TransformResolver {
     return Optional.ofNullable(value.asRaw());
   }
 
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   *
+   * @throws IOException if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream) throws IOException {
+    final var before = this.json;
+    this.json = JsonValue.readHjson(ReadBuffers.readString(inputStream), HJsonJson.READ_OPTIONS).asObject();
+    this.deserializationMemo.invalidateAll();
+    if (this.changeNotifier.isObserving()) {
+      this.changeNotifier.onReload(
+        (Map<?, ?>) this.fromJsonValue(before).orElseGet(Map::of),
+        (Map<?, ?>) this.fromJsonValue(this.json).orElseGet(Map::of));
+    } else {
+      this.changeNotifier.onLoad();
+    }
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
+    }
+    serialized.forEach((path, value) -> this.json.set(path, this.toJsonValue(value)));
+    this.deserializationMemo.invalidateAll();
+  }
+
   /**
    * converts the object into a json value.
    *
@@ -283,4 +408,28 @@ public class HJsonJson extends TransformResolver {
     throw new IllegalArgumentException(String.format("Cannot transform element: %s [%s]",
       object, object.getClass()));
   }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   * @param declaration the declaration to write.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream,
+                           @NotNull final TransformedObjectDeclaration declaration) throws IOException {
+    this.addComments(this.json, declaration, null);
+    final var header = declaration.getHeader();
+    final var comments = header == null
+      ? null
+      : header.value();
+    final var comment = PostProcessor.createComment(this.commentPrefix, comments);
+    this.json.setFullComment(CommentType.BOL, comment.isEmpty()
+      ? ""
+      : comment + this.sectionSeparator);
+    final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    this.json.writeTo(writer, Stringify.HJSON_COMMENTS);
+    writer.flush();
+  }
 }
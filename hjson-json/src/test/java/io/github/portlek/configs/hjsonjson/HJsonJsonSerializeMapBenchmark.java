@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.hjsonjson;
+
+import io.github.portlek.transformer.declarations.GenericDeclaration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks the allocations of serializing large maps.
+ * <p>
+ * run it with {@code -prof gc} and compare {@code gc.alloc.rate.norm} of the benchmarks, the cached decisions should
+ * allocate only the copied map.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HJsonJsonSerializeMapBenchmark {
+
+  /**
+   * the entries.
+   */
+  @Param({"1000", "50000"})
+  public int entries;
+
+  /**
+   * the map.
+   */
+  private Map<Object, Object> map;
+
+  /**
+   * the resolver.
+   */
+  private HJsonJson resolver;
+
+  /**
+   * creates a declaration for every key and value, as the serialization did before the decisions were cached.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void declarationPerEntry(final Blackhole blackhole) {
+    final var copy = new LinkedHashMap<>();
+    this.map.forEach((key, value) -> {
+      blackhole.consume(GenericDeclaration.of(key).getType());
+      blackhole.consume(GenericDeclaration.of(value).getType());
+      copy.put(key, value);
+    });
+    blackhole.consume(copy);
+  }
+
+  /**
+   * serializes the map with the cached decisions.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void serializeMap(final Blackhole blackhole) {
+    blackhole.consume(this.resolver.serializeMap(this.map, null, true));
+  }
+
+  /**
+   * creates the map with strings, numbers and booleans.
+   */
+  @Setup
+  public void setup() {
+    this.resolver = new HJsonJson();
+    this.map = new LinkedHashMap<>();
+    for (var index = 0; index < this.entries; index++) {
+      final Object value;
+      switch (index % 4) {
+        case 0:
+          value = "value-" + index;
+          break;
+        case 1:
+          value = index;
+          break;
+        case 2:
+          value = index * 0.5d;
+          break;
+        default:
+          value = index % 8 == 3;
+      }
+      this.map.put("key-" + index, value);
+    }
+  }
+}
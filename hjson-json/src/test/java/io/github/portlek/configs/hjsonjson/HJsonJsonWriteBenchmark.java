@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.hjsonjson;
+
+import eu.okaeri.hjson.HjsonOptions;
+import eu.okaeri.hjson.JsonValue;
+import eu.okaeri.hjson.Stringify;
+import io.github.portlek.transformer.TransformedObject;
+import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks writing multi-megabyte hjson documents, streamed and through a full-document string.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HJsonJsonWriteBenchmark {
+
+  /**
+   * the document size in megabytes.
+   */
+  @Param({"1", "4", "16"})
+  public int megabytes;
+
+  /**
+   * the declaration.
+   */
+  private TransformedObjectDeclaration declaration;
+
+  /**
+   * the json.
+   */
+  private JsonValue json;
+
+  /**
+   * the resolver.
+   */
+  private HJsonJson resolver;
+
+  /**
+   * creates a json document of the size.
+   *
+   * @param bytes the bytes to create.
+   *
+   * @return json document.
+   */
+  static String document(final int bytes) {
+    final var builder = new StringBuilder(bytes + 256).append('{');
+    for (var index = 0; builder.length() < bytes; index++) {
+      if (index > 0) {
+        builder.append(',');
+      }
+      builder.append("\"item-").append(index).append("\":{\"name\":\"Item number ").append(index)
+        .append("\",\"price\":").append(index * 0.25d)
+        .append(",\"amount\":").append(index % 64)
+        .append(",\"lore\":[\"first line\",\"second line\"]}");
+    }
+    return builder.append('}').toString();
+  }
+
+  /**
+   * renders the document into a string and copies it to the output, as the writes did before streaming.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void fullString(final Blackhole blackhole) {
+    final var bytes = this.json.toString(Stringify.HJSON_COMMENTS).getBytes(StandardCharsets.UTF_8);
+    blackhole.consume(bytes.length);
+  }
+
+  /**
+   * loads the document.
+   *
+   * @throws Exception if something goes wrong when loading.
+   */
+  @Setup
+  public void setup() throws Exception {
+    final var document = HJsonJsonWriteBenchmark.document(this.megabytes * 1024 * 1024);
+    this.declaration = TransformedObjectDeclaration.of(Document.class);
+    this.resolver = new HJsonJson();
+    this.resolver.load(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), this.declaration);
+    this.json = JsonValue.readHjson(document, new HjsonOptions());
+  }
+
+  /**
+   * streams the document into the output.
+   *
+   * @throws Exception if something goes wrong when writing.
+   */
+  @Benchmark
+  public void streamed() throws Exception {
+    this.resolver.write(OutputStream.nullOutputStream(), this.declaration);
+  }
+
+  /**
+   * a class that represents an empty config class.
+   */
+  public static final class Document extends TransformedObject {
+
+  }
+}
@@ -28,6 +28,18 @@ package io.github.portlek.configs.hocon;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigRenderOptions;
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.HomogeneousMaps;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.LineProcessingWriter;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
+import io.github.portlek.configs.core.SerializationDecision;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
@@ -35,6 +47,7 @@ import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
 import io.github.portlek.transformer.postprocessor.PostProcessor;
 import io.github.portlek.transformer.postprocessor.SectionSeparator;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
@@ -44,6 +57,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -52,7 +66,7 @@ import org.jetbrains.annotations.Nullable;
  * a class that represents Hocon file configuration.
  */
 @RequiredArgsConstructor
-public class Hocon extends TransformResolver {
+public class Hocon extends TransformResolver implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
    * the comment prefix.
@@ -75,6 +89,27 @@ public class Hocon extends TransformResolver {
   @NotNull
   private final String sectionSeparator;
 
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the config.
    */
@@ -128,14 +163,21 @@ public class Hocon extends TransformResolver {
    * @return {@code true} if the line starts with the certain keys.
    */
   @NotNull
-  private static Predicate<FieldDeclaration> isFieldDeclaredForLine(@NotNull final String line) {
+  private static Predicate<FieldDeclaration> isFieldDeclaredForLine(@NotNull final CharSequence line) {
     return field -> {
       final var path = field.getPath();
-      return line.startsWith(path + "=")
-        || line.startsWith(path + " =")
-        || line.startsWith("\"" + path + "\"")
-        || line.startsWith(path + "{")
-        || line.startsWith(path + " {");
+      if (LineProcessingWriter.startsWith(line, "\"", 0)) {
+        return LineProcessingWriter.startsWith(line, path, 1)
+          && LineProcessingWriter.startsWith(line, "\"", path.length() + 1);
+      }
+      if (!LineProcessingWriter.startsWith(line, path, 0)) {
+        return false;
+      }
+      final var separator = LineProcessingWriter.startsWith(line, " ", path.length())
+        ? path.length() + 1
+        : path.length();
+      return LineProcessingWriter.startsWith(line, "=", separator)
+        || LineProcessingWriter.startsWith(line, "{", separator);
     };
   }
 
@@ -148,13 +190,28 @@ public class Hocon extends TransformResolver {
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.map.get(path));
+    final var started = this.probe.start();
+    final var value = Optional.ofNullable(this.map.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
-  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    this.config = ConfigFactory.parseString(PostProcessor.of(inputStream).getContext());
-    this.map = Hocon.hoconToMap(this.config, declaration);
+  public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.load(inputStream, input -> this.loadValues(input, declaration),
+      () -> this.map.size(), () -> InstrumentationProbe.countNodes(this.map));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, this.map::containsKey);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
@@ -165,7 +222,19 @@ public class Hocon extends TransformResolver {
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.remove(path);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.config = ConfigFactory.empty();
+    this.map.clear();
+    this.deserializationMemo.invalidateAll();
   }
 
   @Nullable
@@ -175,11 +244,10 @@ public class Hocon extends TransformResolver {
     if (value == null) {
       return null;
     }
-    final var genericsDeclaration = GenericDeclaration.of(value);
-    if (genericsDeclaration.getType() == char.class || genericsDeclaration.getType() == Character.class) {
-      return super.serialize(value, genericType, false);
+    if (SerializationDecision.isPassThrough(this, value.getClass(), conservative)) {
+      return value;
     }
-    return super.serialize(value, genericType, conservative);
+    return super.serialize(value, genericType, SerializationDecision.of(value).isConservative(conservative));
   }
 
   @NotNull
@@ -187,9 +255,13 @@ public class Hocon extends TransformResolver {
   public Map<Object, Object> serializeMap(@NotNull final Map<Object, Object> value,
                                           @Nullable final GenericDeclaration genericType, final boolean conservative)
     throws TransformException {
-    final var map = new LinkedHashMap<>();
     final var keyDeclaration = genericType == null ? null : genericType.getSubTypeAt(0).orElse(null);
     final var valueDeclaration = genericType == null ? null : genericType.getSubTypeAt(1).orElse(null);
+    final var copied = HomogeneousMaps.copy(this, value, keyDeclaration, valueDeclaration, conservative);
+    if (copied != null) {
+      return copied;
+    }
+    final var map = HomogeneousMaps.newMap(value.size());
     value.forEach((key1, value1) ->
       map.put(
         this.serialize(key1, keyDeclaration, false),
@@ -200,34 +272,89 @@ public class Hocon extends TransformResolver {
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.put(path, this.serialize(value, genericType, true));
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
   }
 
   @Override
-  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    this.config = ConfigFactory.parseMap(this.map);
-    final var builder = new StringBuilder();
-    if (!declaration.getNonMigratedFields().isEmpty()) {
-      for (final var field : declaration.getNonMigratedFields().values()) {
-        final var entryMap = Collections.singletonMap(field.getPath(), this.getValue(field.getPath()));
-        final var entryConfig = ConfigFactory.parseMap(entryMap);
-        builder.append(entryConfig.root().render(this.renderOpts)).append(this.sectionSeparator);
-      }
-    } else {
-      builder.append(this.config.root().render(this.renderOpts));
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
+  }
+
+  @Override
+  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.write(outputStream, output -> this.writeValues(output, declaration));
+  }
+
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   * @param declaration the declaration to load.
+   *
+   * @throws IOException if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream,
+                          @NotNull final TransformedObjectDeclaration declaration) throws IOException {
+    final var before = this.map;
+    this.config = ConfigFactory.parseString(ReadBuffers.readString(inputStream));
+    this.map = Hocon.hoconToMap(this.config, declaration);
+    this.deserializationMemo.invalidateAll();
+    this.changeNotifier.onReload(before, this.map);
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
     }
-    final var processor = PostProcessor.of(builder.toString())
-      .removeLines(line -> line.startsWith(this.commentPrefix.trim()))
+    this.map.putAll(serialized);
+    this.deserializationMemo.invalidateAll();
+  }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   * @param declaration the declaration to write.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream,
+                           @NotNull final TransformedObjectDeclaration declaration) throws IOException {
+    this.config = ConfigFactory.parseMap(this.map);
+    final var writer = new LineProcessingWriter(outputStream)
+      .removeLinesStartingWith(this.commentPrefix.trim())
       .updateLines(line -> declaration.getNonMigratedFields().values().stream()
         .filter(Hocon.isFieldDeclaredForLine(line))
         .findAny()
         .map(FieldDeclaration::getComment)
-        .map(comment -> this.sectionSeparator + PostProcessor.createComment(this.commentPrefix, comment.value()) + line)
+        .<CharSequence>map(comment -> this.sectionSeparator + PostProcessor.createComment(this.commentPrefix, comment.value()) + line)
         .orElse(line));
     final var header = declaration.getHeader();
     if (header != null) {
-      processor.prependContextComment(this.commentPrefix, header.value());
+      writer.writeRaw(PostProcessor.createComment(this.commentPrefix, header.value()));
+    }
+    if (!declaration.getNonMigratedFields().isEmpty()) {
+      for (final var field : declaration.getNonMigratedFields().values()) {
+        final var entryMap = Collections.singletonMap(field.getPath(), this.getValue(field.getPath()));
+        final var entryConfig = ConfigFactory.parseMap(entryMap);
+        writer.write(entryConfig.root().render(this.renderOpts));
+        writer.write(this.sectionSeparator);
+      }
+    } else {
+      writer.write(this.config.root().render(this.renderOpts));
     }
-    processor.write(outputStream);
+    writer.finish();
   }
 }
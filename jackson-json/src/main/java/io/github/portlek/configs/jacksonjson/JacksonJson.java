@@ -25,14 +25,27 @@
 
 package io.github.portlek.configs.jacksonjson;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.MapType;
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.NumericLists;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
+import io.github.portlek.configs.core.StreamingValues;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
-import io.github.portlek.transformer.postprocessor.PostProcessor;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
@@ -40,13 +53,17 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * a class that represents json file configuration.
  */
-public class JacksonJson extends TransformResolver {
+@RequiredArgsConstructor
+public class JacksonJson extends TransformResolver implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
    * the mapper.
@@ -60,11 +77,74 @@ public class JacksonJson extends TransformResolver {
   private static final MapType MAP_TYPE = JacksonJson.MAPPER.getTypeFactory().constructMapType(HashMap.class, String.class,
     Object.class);
 
+  /**
+   * the compact numeric arrays.
+   */
+  private final boolean compactNumericArrays;
+
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the cache map.
    */
   private Map<String, Object> map = new HashMap<>();
 
+  /**
+   * ctor.
+   */
+  public JacksonJson() {
+    this(false);
+  }
+
+  /**
+   * moves the parser into the array at the path.
+   *
+   * @param parser the parser to move.
+   * @param path the path to move.
+   *
+   * @return {@code true} if the parser is at the start of the array.
+   *
+   * @throws IOException if something goes wrong when reading or the path is not an array.
+   */
+  private static boolean moveToArray(@NotNull final JsonParser parser, @NotNull final String path)
+    throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final var name = parser.getCurrentName();
+      final var token = parser.nextToken();
+      if (!path.equals(name)) {
+        parser.skipChildren();
+        continue;
+      }
+      if (token != JsonToken.START_ARRAY) {
+        throw new IOException(String.format("%s is not an array", path));
+      }
+      return true;
+    }
+    return false;
+  }
+
   @NotNull
   @Override
   public List<String> getAllKeys() {
@@ -74,17 +154,28 @@ public class JacksonJson extends TransformResolver {
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.map.get(path));
+    final var started = this.probe.start();
+    final var value = Optional.ofNullable(this.map.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
   public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
     throws Exception {
-    final var context = PostProcessor.of(inputStream).getContext();
-    this.map = JacksonJson.MAPPER.readValue(context.isEmpty() ? "{}" : context, JacksonJson.MAP_TYPE);
-    if (this.map == null) {
-      this.map = new LinkedHashMap<>();
-    }
+    this.probe.load(inputStream, this::loadValues,
+      () -> this.map.size(), () -> InstrumentationProbe.countNodes(this.map));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, this.map::containsKey);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
@@ -95,18 +186,122 @@ public class JacksonJson extends TransformResolver {
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.remove(path);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.map.clear();
+    this.deserializationMemo.invalidateAll();
   }
 
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.put(path, this.serialize(value, genericType, true));
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
+  }
+
+  @Override
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
+  }
+
+  /**
+   * streams the values of the array at the path lazily from the source, without loading the whole document.
+   *
+   * @param source the source to stream.
+   * @param path the path of the array to stream.
+   *
+   * @return a lazy stream of the array values. the stream closes the source when it is exhausted or closed.
+   *
+   * @throws IOException if something goes wrong when reading the source or the path is not an array.
+   */
+  @NotNull
+  public Stream<Object> streamValues(@NotNull final InputStream source, @NotNull final String path)
+    throws IOException {
+    final var parser = JacksonJson.MAPPER.getFactory().createParser(source);
+    try {
+      if (JacksonJson.moveToArray(parser, path)) {
+        return StreamingValues.of(new StreamingValues.Source() {
+          @Override
+          public boolean hasNext() throws IOException {
+            return parser.nextToken() != JsonToken.END_ARRAY;
+          }
+
+          @Override
+          public Object next() throws IOException {
+            return JacksonJson.MAPPER.readValue(parser, Object.class);
+          }
+        }, parser);
+      }
+    } catch (final IOException | RuntimeException e) {
+      parser.close();
+      throw e;
+    }
+    parser.close();
+    return Stream.empty();
   }
 
   @Override
   public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
     throws Exception {
+    this.probe.write(outputStream, this::writeValues);
+  }
+
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   *
+   * @throws Exception if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream) throws Exception {
+    final var before = this.map;
+    this.map = ReadBuffers.readBytes(inputStream, (bytes, length) -> length == 0
+      ? new HashMap<>()
+      : JacksonJson.MAPPER.readValue(bytes, 0, length, JacksonJson.MAP_TYPE));
+    if (this.map == null) {
+      this.map = new LinkedHashMap<>();
+    }
+    if (this.compactNumericArrays) {
+      NumericLists.compactAll(this.map);
+    }
+    this.deserializationMemo.invalidateAll();
+    this.changeNotifier.onReload(before, this.map);
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
+    }
+    this.map.putAll(serialized);
+    this.deserializationMemo.invalidateAll();
+  }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   *
+   * @throws Exception if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream) throws Exception {
     JacksonJson.MAPPER.writeValue(outputStream, this.map);
   }
 }
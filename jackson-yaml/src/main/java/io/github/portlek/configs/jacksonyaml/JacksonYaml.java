@@ -29,11 +29,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.MapType;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
-import io.github.portlek.transformer.postprocessor.PostProcessor;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
@@ -41,13 +49,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * a class that represents yaml file configuration.
  */
-public class JacksonYaml extends TransformResolver {
+public class JacksonYaml extends TransformResolver implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
    * the mapper.
@@ -61,6 +70,27 @@ public class JacksonYaml extends TransformResolver {
   private static final MapType MAP_TYPE = JacksonYaml.MAPPER.getTypeFactory().constructMapType(HashMap.class, String.class,
     Object.class);
 
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the cache map.
    */
@@ -75,17 +105,28 @@ public class JacksonYaml extends TransformResolver {
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.map.get(path));
+    final var started = this.probe.start();
+    final var value = Optional.ofNullable(this.map.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
   public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
     throws Exception {
-    final var context = PostProcessor.of(inputStream).getContext();
-    this.map = JacksonYaml.MAPPER.readValue(context.isEmpty() ? "{}" : context, JacksonYaml.MAP_TYPE);
-    if (this.map == null) {
-      this.map = new LinkedHashMap<>();
-    }
+    this.probe.load(inputStream, this::loadValues,
+      () -> this.map.size(), () -> InstrumentationProbe.countNodes(this.map));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, this.map::containsKey);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
@@ -96,18 +137,83 @@ public class JacksonYaml extends TransformResolver {
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.remove(path);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.map.clear();
+    this.deserializationMemo.invalidateAll();
   }
 
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.put(path, this.serialize(value, genericType, true));
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
+  }
+
+  @Override
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
   }
 
   @Override
   public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
     throws Exception {
+    this.probe.write(outputStream, this::writeValues);
+  }
+
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   *
+   * @throws Exception if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream) throws Exception {
+    final var before = this.map;
+    this.map = ReadBuffers.readBytes(inputStream, (bytes, length) -> length == 0
+      ? new HashMap<>()
+      : JacksonYaml.MAPPER.readValue(bytes, 0, length, JacksonYaml.MAP_TYPE));
+    if (this.map == null) {
+      this.map = new LinkedHashMap<>();
+    }
+    this.deserializationMemo.invalidateAll();
+    this.changeNotifier.onReload(before, this.map);
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
+    }
+    this.map.putAll(serialized);
+    this.deserializationMemo.invalidateAll();
+  }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   *
+   * @throws Exception if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream) throws Exception {
     JacksonYaml.MAPPER.writeValue(outputStream, this.map);
   }
 }
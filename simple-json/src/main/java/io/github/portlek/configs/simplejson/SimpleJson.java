@@ -25,41 +25,153 @@
 
 package io.github.portlek.configs.simplejson;
 
+import io.github.portlek.configs.core.BatchValues;
+import io.github.portlek.configs.core.BatchWritable;
+import io.github.portlek.configs.core.ChangeNotifier;
+import io.github.portlek.configs.core.DeserializationMemo;
+import io.github.portlek.configs.core.InstrumentationProbe;
+import io.github.portlek.configs.core.Instrumented;
+import io.github.portlek.configs.core.Memoized;
+import io.github.portlek.configs.core.ReadBuffers;
+import io.github.portlek.configs.core.Resettable;
+import io.github.portlek.configs.core.SerializationDecision;
 import io.github.portlek.transformer.TransformResolver;
 import io.github.portlek.transformer.declarations.FieldDeclaration;
 import io.github.portlek.transformer.declarations.GenericDeclaration;
 import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
 import io.github.portlek.transformer.exceptions.TransformException;
-import io.github.portlek.transformer.postprocessor.PostProcessor;
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.json.simple.JSONObject;
+import org.json.simple.parser.ContainerFactory;
 import org.json.simple.parser.JSONParser;
 
 /**
  * a class that represents Gson file configuration.
  */
-@RequiredArgsConstructor
-public class SimpleJson extends TransformResolver {
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SimpleJson extends TransformResolver implements BatchWritable, Instrumented, Memoized, Resettable {
 
   /**
-   * the parser.
+   * the container factory that keeps the key order of the parsed objects.
    */
-  @NotNull
+  private static final ContainerFactory ORDERED_CONTAINERS = new ContainerFactory() {
+    @Override
+    public List<Object> creatArrayContainer() {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public Map<String, Object> createObjectContainer() {
+      return new LinkedHashMap<>();
+    }
+  };
+
+  /**
+   * the json-simple parser.
+   */
+  @Nullable
   private final JSONParser parser;
 
+  /**
+   * the single-pass reader which is used instead of the json-simple parser if it is present.
+   */
+  @Nullable
+  private final SimpleJsonReader reader;
+
+  /**
+   * the pretty printing.
+   */
+  private final boolean prettyPrinting;
+
+  /**
+   * the notifier of the changed paths on reload.
+   */
+  @Getter
+  @NotNull
+  private final ChangeNotifier changeNotifier = new ChangeNotifier();
+
+  /**
+   * the memo of the deserialized values.
+   */
+  @Getter
+  @NotNull
+  private final DeserializationMemo deserializationMemo = new DeserializationMemo();
+
+  /**
+   * the probe that reports the operations into the instrumentation.
+   */
+  @Getter
+  @NotNull
+  private final InstrumentationProbe probe = new InstrumentationProbe(this.getClass());
+
   /**
    * the cache map.
    */
   private Map<String, Object> map = new LinkedHashMap<>();
 
+  /**
+   * ctor.
+   *
+   * @param parser the parser.
+   * @param prettyPrinting the pretty printing.
+   */
+  public SimpleJson(@NotNull final JSONParser parser, final boolean prettyPrinting) {
+    this(parser, null, prettyPrinting);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param reader the reader.
+   * @param prettyPrinting the pretty printing.
+   */
+  public SimpleJson(@NotNull final SimpleJsonReader reader, final boolean prettyPrinting) {
+    this(null, reader, prettyPrinting);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param parser the parser.
+   */
+  public SimpleJson(@NotNull final JSONParser parser) {
+    this(parser, false);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param reader the reader.
+   */
+  public SimpleJson(@NotNull final SimpleJsonReader reader) {
+    this(reader, false);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param prettyPrinting the pretty printing.
+   */
+  public SimpleJson(final boolean prettyPrinting) {
+    this(new JSONParser(), prettyPrinting);
+  }
+
   /**
    * ctor.
    */
@@ -76,18 +188,28 @@ public class SimpleJson extends TransformResolver {
   @NotNull
   @Override
   public Optional<Object> getValue(@NotNull final String path) {
-    return Optional.ofNullable(this.map.get(path));
+    final var started = this.probe.start();
+    final var value = Optional.ofNullable(this.map.get(path));
+    this.probe.got(started);
+    return value;
   }
 
   @Override
   public void load(@NotNull final InputStream inputStream, @NotNull final TransformedObjectDeclaration declaration)
     throws Exception {
-    //noinspection unchecked
-    this.map = (Map<String, Object>) this.parser.parse(PostProcessor.of(inputStream).getContext());
-    if (this.map != null) {
-      return;
-    }
-    this.map = new LinkedHashMap<>();
+    this.probe.load(inputStream, this::loadValues,
+      () -> this.map.size(), () -> InstrumentationProbe.countNodes(this.map));
+  }
+
+  @NotNull
+  @Override
+  public List<String> mergeDefaults(@NotNull final Map<String, ?> defaults,
+                                    @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    final var serialized = BatchValues.serialize(this, defaults, genericTypes, this.map::containsKey);
+    this.putSerialized(serialized);
+    this.probe.merged(started);
+    return List.copyOf(serialized.keySet());
   }
 
   @Override
@@ -98,7 +220,18 @@ public class SimpleJson extends TransformResolver {
   @Override
   public void removeValue(@NotNull final String path, @Nullable final GenericDeclaration genericType,
                           @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.remove(path);
+    this.deserializationMemo.invalidate(path);
+    this.probe.removed(started);
+  }
+
+  @Override
+  public void reset() {
+    this.changeNotifier.reset();
+    this.probe.reset();
+    this.map.clear();
+    this.deserializationMemo.invalidateAll();
   }
 
   @Nullable
@@ -108,21 +241,81 @@ public class SimpleJson extends TransformResolver {
     if (value == null) {
       return null;
     }
-    final var genericsDeclaration = GenericDeclaration.of(value);
-    if (genericsDeclaration.getType() == char.class || genericsDeclaration.getType() == Character.class) {
-      return super.serialize(value, genericType, false);
+    if (SerializationDecision.isPassThrough(this, value.getClass(), conservative)) {
+      return value;
     }
-    return super.serialize(value, genericType, conservative);
+    return super.serialize(value, genericType, SerializationDecision.of(value).isConservative(conservative));
   }
 
   @Override
   public void setValue(@NotNull final String path, @Nullable final Object value,
                        @Nullable final GenericDeclaration genericType, @Nullable final FieldDeclaration field) {
+    final var started = this.probe.start();
     this.map.put(path, this.serialize(value, genericType, true));
+    this.deserializationMemo.invalidate(path);
+    this.probe.set(started);
   }
 
   @Override
-  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration) {
-    PostProcessor.of(new JSONObject(this.map).toJSONString()).write(outputStream);
+  public void setValues(@NotNull final Map<String, ?> values,
+                        @NotNull final Map<String, GenericDeclaration> genericTypes) {
+    final var started = this.probe.start();
+    this.putSerialized(BatchValues.serialize(this, values, genericTypes, path -> false));
+    this.probe.setAll(started);
+  }
+
+  @Override
+  public void write(@NotNull final OutputStream outputStream, @NotNull final TransformedObjectDeclaration declaration)
+    throws IOException {
+    this.probe.write(outputStream, this::writeValues);
+  }
+
+  /**
+   * loads the values from the input stream.
+   *
+   * @param inputStream the input stream to load.
+   *
+   * @throws Exception if something goes wrong when loading.
+   */
+  private void loadValues(@NotNull final InputStream inputStream) throws Exception {
+    final var before = this.map;
+    if (this.reader != null) {
+      this.map = this.reader.readObject(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    } else {
+      //noinspection unchecked
+      this.map = (Map<String, Object>) Objects.requireNonNull(this.parser, "parser")
+        .parse(ReadBuffers.readString(inputStream), SimpleJson.ORDERED_CONTAINERS);
+    }
+    if (this.map == null) {
+      this.map = new LinkedHashMap<>();
+    }
+    this.deserializationMemo.invalidateAll();
+    this.changeNotifier.onReload(before, this.map);
+  }
+
+  /**
+   * puts the serialized values.
+   *
+   * @param serialized the serialized to put.
+   */
+  private void putSerialized(@NotNull final Map<String, Object> serialized) {
+    if (serialized.isEmpty()) {
+      return;
+    }
+    this.map.putAll(serialized);
+    this.deserializationMemo.invalidateAll();
+  }
+
+  /**
+   * writes the values into the output stream.
+   *
+   * @param outputStream the output stream to write.
+   *
+   * @throws IOException if something goes wrong when writing.
+   */
+  private void writeValues(@NotNull final OutputStream outputStream) throws IOException {
+    final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    new SimpleJsonWriter(this.prettyPrinting, writer).write(this.map);
+    writer.flush();
   }
 }
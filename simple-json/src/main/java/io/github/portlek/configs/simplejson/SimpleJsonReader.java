@@ -0,0 +1,464 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.simplejson;
+
+import io.github.portlek.configs.core.NumericLists;
+import io.github.portlek.configs.core.ReadBuffers;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that parses json documents in a single pass over a char buffer into {@link LinkedHashMap} and
+ * {@link ArrayList} trees.
+ * <p>
+ * numbers are parsed as {@link Long} and {@link Double} like json-simple does. homogeneous numeric arrays can be stored
+ * in primitive arrays, see {@link NumericLists#compact(List)}. the instances can be reused across loads but are not
+ * thread-safe.
+ */
+@RequiredArgsConstructor
+public final class SimpleJsonReader {
+
+  /**
+   * the builder that collects strings and numbers.
+   */
+  private final StringBuilder builder = new StringBuilder();
+
+  /**
+   * the compact numeric arrays.
+   */
+  private final boolean compactNumericArrays;
+
+  /**
+   * the buffer.
+   */
+  private char[] buffer;
+
+  /**
+   * the valid length of the buffer.
+   */
+  private int limit;
+
+  /**
+   * the position in the buffer.
+   */
+  private int position;
+
+  /**
+   * the read chars before the buffer.
+   */
+  private long offset;
+
+  /**
+   * the reader.
+   */
+  @Nullable
+  private Reader reader;
+
+  /**
+   * ctor.
+   */
+  public SimpleJsonReader() {
+    this(false);
+  }
+
+  /**
+   * reads the json document.
+   *
+   * @param reader the reader to read.
+   *
+   * @return parsed value or {@code null} if the document is empty.
+   *
+   * @throws IOException if something goes wrong when reading or the document is not a valid json.
+   */
+  @Nullable
+  public Object read(@NotNull final Reader reader) throws IOException {
+    this.reader = reader;
+    this.buffer = ReadBuffers.chars();
+    this.limit = 0;
+    this.position = 0;
+    this.offset = 0L;
+    try {
+      if (this.peekSkippingWhitespaces() == -1) {
+        return null;
+      }
+      final var value = this.readValue();
+      if (this.peekSkippingWhitespaces() != -1) {
+        throw this.unexpected(this.buffer[this.position]);
+      }
+      return value;
+    } finally {
+      this.reader = null;
+      this.buffer = null;
+      this.builder.setLength(0);
+    }
+  }
+
+  /**
+   * reads the json document which has to be a json object.
+   *
+   * @param reader the reader to read.
+   *
+   * @return parsed map or {@code null} if the document is empty.
+   *
+   * @throws IOException if something goes wrong when reading or the document is not a valid json object.
+   */
+  @Nullable
+  public Map<String, Object> readObject(@NotNull final Reader reader) throws IOException {
+    final var value = this.read(reader);
+    if (value != null && !(value instanceof Map<?, ?>)) {
+      throw new IOException(String.format("Expected a json object but was %s", value.getClass()));
+    }
+    //noinspection unchecked
+    return (Map<String, Object>) value;
+  }
+
+  /**
+   * expects the character at the current position and skips it.
+   *
+   * @param expected the expected to check.
+   *
+   * @throws IOException if the current character is not the expected one.
+   */
+  private void expect(final char expected) throws IOException {
+    final var current = this.next();
+    if (current != expected) {
+      throw this.unexpected(current);
+    }
+  }
+
+  /**
+   * fills the buffer if all the chars are consumed.
+   *
+   * @return {@code false} if the reader reached the end.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  private boolean fill() throws IOException {
+    if (this.position < this.limit) {
+      return true;
+    }
+    this.offset += this.limit;
+    this.position = 0;
+    this.limit = 0;
+    final var reader = Objects.requireNonNull(this.reader, "reader");
+    int read;
+    do {
+      read = reader.read(this.buffer, 0, this.buffer.length);
+    } while (read == 0);
+    if (read == -1) {
+      return false;
+    }
+    this.limit = read;
+    return true;
+  }
+
+  /**
+   * reads the next character.
+   *
+   * @return next character.
+   *
+   * @throws IOException if the reader reached the end.
+   */
+  private char next() throws IOException {
+    if (!this.fill()) {
+      throw new IOException(String.format("Unexpected end of the document at %d", this.offset));
+    }
+    return this.buffer[this.position++];
+  }
+
+  /**
+   * skips the whitespaces and peeks the next character.
+   *
+   * @return next character or {@code -1} if the reader reached the end.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  private int peekSkippingWhitespaces() throws IOException {
+    while (this.fill()) {
+      final var current = this.buffer[this.position];
+      if (current != ' ' && current != '\n' && current != '\r' && current != '\t') {
+        return current;
+      }
+      this.position++;
+    }
+    return -1;
+  }
+
+  /**
+   * reads the json array.
+   *
+   * @return parsed list.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  @NotNull
+  private List<?> readArray() throws IOException {
+    this.expect('[');
+    final var list = new ArrayList<>();
+    if (this.peekSkippingWhitespaces() == ']') {
+      this.position++;
+      return list;
+    }
+    while (true) {
+      list.add(this.readValue());
+      final var separator = this.peekSkippingWhitespaces();
+      this.position++;
+      if (separator == ']') {
+        return this.compactNumericArrays
+          ? NumericLists.compact(list)
+          : list;
+      }
+      if (separator != ',') {
+        throw this.unexpected(separator);
+      }
+    }
+  }
+
+  /**
+   * reads the escaped character after a backslash.
+   *
+   * @return unescaped character.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  private char readEscaped() throws IOException {
+    final var escaped = this.next();
+    switch (escaped) {
+      case '"':
+      case '\\':
+      case '/':
+        return escaped;
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        var character = 0;
+        for (var index = 0; index < 4; index++) {
+          final var digit = Character.digit(this.next(), 16);
+          if (digit == -1) {
+            throw new IOException(String.format("Invalid unicode escape at %d", this.offset + this.position));
+          }
+          character = character << 4 | digit;
+        }
+        return (char) character;
+      default:
+        throw this.unexpected(escaped);
+    }
+  }
+
+  /**
+   * reads the literal.
+   *
+   * @param literal the literal to read.
+   * @param value the value to return.
+   *
+   * @return value.
+   *
+   * @throws IOException if the document does not contain the literal.
+   */
+  @Nullable
+  private Object readLiteral(@NotNull final String literal, @Nullable final Object value) throws IOException {
+    for (var index = 0; index < literal.length(); index++) {
+      this.expect(literal.charAt(index));
+    }
+    return value;
+  }
+
+  /**
+   * reads the json number.
+   *
+   * @return parsed number.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  @NotNull
+  private Number readNumber() throws IOException {
+    final var builder = this.builder;
+    builder.setLength(0);
+    var floating = false;
+    while (this.fill()) {
+      final var current = this.buffer[this.position];
+      if (current == '.' || current == 'e' || current == 'E') {
+        floating = true;
+      } else if (current != '-' && current != '+' && (current < '0' || current > '9')) {
+        break;
+      }
+      builder.append(current);
+      this.position++;
+    }
+    final var number = builder.toString();
+    try {
+      if (floating) {
+        return Double.parseDouble(number);
+      }
+      if (number.length() < 19) {
+        return Long.parseLong(number);
+      }
+      final var value = new BigInteger(number);
+      return value.bitLength() < Long.SIZE
+        ? value.longValue()
+        : value;
+    } catch (final NumberFormatException e) {
+      throw new IOException(String.format("Invalid number %s at %d", number, this.offset + this.position), e);
+    }
+  }
+
+  /**
+   * reads the json object.
+   *
+   * @return parsed map.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  @NotNull
+  private Map<String, Object> readObjectValue() throws IOException {
+    this.expect('{');
+    final var map = new LinkedHashMap<String, Object>();
+    if (this.peekSkippingWhitespaces() == '}') {
+      this.position++;
+      return map;
+    }
+    while (true) {
+      final var keyStart = this.peekSkippingWhitespaces();
+      if (keyStart != '"') {
+        throw this.unexpected(keyStart);
+      }
+      final var key = this.readString();
+      if (this.peekSkippingWhitespaces() != ':') {
+        throw this.unexpected(this.peekSkippingWhitespaces());
+      }
+      this.position++;
+      map.put(key, this.readValue());
+      final var separator = this.peekSkippingWhitespaces();
+      this.position++;
+      if (separator == '}') {
+        return map;
+      }
+      if (separator != ',') {
+        throw this.unexpected(separator);
+      }
+    }
+  }
+
+  /**
+   * reads the json string.
+   *
+   * @return parsed string.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  @NotNull
+  private String readString() throws IOException {
+    this.expect('"');
+    final var builder = this.builder;
+    builder.setLength(0);
+    while (true) {
+      if (!this.fill()) {
+        throw new IOException(String.format("Unterminated string at %d", this.offset + this.position));
+      }
+      final var start = this.position;
+      var end = start;
+      final var buffer = this.buffer;
+      final var limit = this.limit;
+      while (end < limit && buffer[end] != '"' && buffer[end] != '\\') {
+        end++;
+      }
+      builder.append(buffer, start, end - start);
+      this.position = end;
+      if (end == limit) {
+        continue;
+      }
+      this.position++;
+      if (buffer[end] == '"') {
+        return builder.toString();
+      }
+      builder.append(this.readEscaped());
+    }
+  }
+
+  /**
+   * reads the json value.
+   *
+   * @return parsed value.
+   *
+   * @throws IOException if something goes wrong when reading.
+   */
+  @Nullable
+  private Object readValue() throws IOException {
+    final var current = this.peekSkippingWhitespaces();
+    switch (current) {
+      case '{':
+        return this.readObjectValue();
+      case '[':
+        return this.readArray();
+      case '"':
+        return this.readString();
+      case 't':
+        return this.readLiteral("true", Boolean.TRUE);
+      case 'f':
+        return this.readLiteral("false", Boolean.FALSE);
+      case 'n':
+        return this.readLiteral("null", null);
+      default:
+        if (current == '-' || current >= '0' && current <= '9') {
+          return this.readNumber();
+        }
+        throw this.unexpected(current);
+    }
+  }
+
+  /**
+   * creates an exception for the unexpected character.
+   *
+   * @param character the character to create.
+   *
+   * @return exception.
+   */
+  @NotNull
+  private IOException unexpected(final int character) {
+    if (character == -1) {
+      return new IOException(String.format("Unexpected end of the document at %d", this.offset + this.position));
+    }
+    return new IOException(String.format("Unexpected character '%s' at %d", (char) character,
+      this.offset + this.position));
+  }
+}
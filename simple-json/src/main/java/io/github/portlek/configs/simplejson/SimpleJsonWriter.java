@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.simplejson;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that writes json values straight into a writer without building intermediate strings.
+ */
+@RequiredArgsConstructor
+public final class SimpleJsonWriter {
+
+  /**
+   * the indent.
+   */
+  private static final String INDENT = "  ";
+
+  /**
+   * the pretty printing.
+   */
+  private final boolean prettyPrinting;
+
+  /**
+   * the writer.
+   */
+  @NotNull
+  private final Writer writer;
+
+  /**
+   * the current depth.
+   */
+  private int depth;
+
+  /**
+   * writes the value.
+   *
+   * @param value the value to write.
+   *
+   * @throws IOException if something goes wrong when writing the value.
+   */
+  public void write(@Nullable final Object value) throws IOException {
+    if (value == null) {
+      this.writer.write("null");
+    } else if (value instanceof String) {
+      this.writeString((String) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      this.writeFloating((Number) value);
+    } else if (value instanceof Number || value instanceof Boolean) {
+      this.writer.write(value.toString());
+    } else if (value instanceof Map<?, ?>) {
+      this.writeMap((Map<?, ?>) value);
+    } else if (value instanceof Collection<?>) {
+      this.writeCollection((Collection<?>) value);
+    } else {
+      this.writeString(value.toString());
+    }
+  }
+
+  /**
+   * writes a new line and the indent of the current depth.
+   *
+   * @throws IOException if something goes wrong when writing the new line.
+   */
+  private void newLine() throws IOException {
+    if (!this.prettyPrinting) {
+      return;
+    }
+    this.writer.write('\n');
+    for (var index = 0; index < this.depth; index++) {
+      this.writer.write(SimpleJsonWriter.INDENT);
+    }
+  }
+
+  /**
+   * writes the collection.
+   *
+   * @param collection the collection to write.
+   *
+   * @throws IOException if something goes wrong when writing the collection.
+   */
+  private void writeCollection(@NotNull final Collection<?> collection) throws IOException {
+    this.writer.write('[');
+    if (collection.isEmpty()) {
+      this.writer.write(']');
+      return;
+    }
+    this.depth++;
+    var first = true;
+    for (final var item : collection) {
+      if (!first) {
+        this.writer.write(',');
+      }
+      first = false;
+      this.newLine();
+      this.write(item);
+    }
+    this.depth--;
+    this.newLine();
+    this.writer.write(']');
+  }
+
+  /**
+   * writes the floating number.
+   *
+   * @param number the number to write.
+   *
+   * @throws IOException if something goes wrong when writing the number.
+   */
+  private void writeFloating(@NotNull final Number number) throws IOException {
+    final var value = number.doubleValue();
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      this.writer.write("null");
+    } else {
+      this.writer.write(number.toString());
+    }
+  }
+
+  /**
+   * writes the map.
+   *
+   * @param map the map to write.
+   *
+   * @throws IOException if something goes wrong when writing the map.
+   */
+  private void writeMap(@NotNull final Map<?, ?> map) throws IOException {
+    this.writer.write('{');
+    if (map.isEmpty()) {
+      this.writer.write('}');
+      return;
+    }
+    this.depth++;
+    var first = true;
+    for (final var entry : map.entrySet()) {
+      if (!first) {
+        this.writer.write(',');
+      }
+      first = false;
+      this.newLine();
+      this.writeString(String.valueOf(entry.getKey()));
+      this.writer.write(this.prettyPrinting ? ": " : ":");
+      this.write(entry.getValue());
+    }
+    this.depth--;
+    this.newLine();
+    this.writer.write('}');
+  }
+
+  /**
+   * writes the string with escaping the json special characters.
+   *
+   * @param string the string to write.
+   *
+   * @throws IOException if something goes wrong when writing the string.
+   */
+  private void writeString(@NotNull final String string) throws IOException {
+    this.writer.write('"');
+    var start = 0;
+    final var length = string.length();
+    for (var index = 0; index < length; index++) {
+      final var character = string.charAt(index);
+      final String replacement;
+      switch (character) {
+        case '"':
+          replacement = "\\\"";
+          break;
+        case '\\':
+          replacement = "\\\\";
+          break;
+        case '\b':
+          replacement = "\\b";
+          break;
+        case '\f':
+          replacement = "\\f";
+          break;
+        case '\n':
+          replacement = "\\n";
+          break;
+        case '\r':
+          replacement = "\\r";
+          break;
+        case '\t':
+          replacement = "\\t";
+          break;
+        default:
+          replacement = character < ' ' || character >= '\u007f' && character <= '\u009f'
+            ? String.format("\\u%04x", (int) character)
+            : null;
+      }
+      if (replacement == null) {
+        continue;
+      }
+      this.writer.write(string, start, index - start);
+      this.writer.write(replacement);
+      start = index + 1;
+    }
+    this.writer.write(string, start, length - start);
+    this.writer.write('"');
+  }
+}
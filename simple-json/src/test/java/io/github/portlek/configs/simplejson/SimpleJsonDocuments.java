@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.simplejson;
+
+import io.github.portlek.transformer.TransformedObject;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains the json documents of the benchmarks.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SimpleJsonDocuments {
+
+  /**
+   * creates a json document of the size, with nested objects, arrays, escaped strings and numbers.
+   *
+   * @param bytes the bytes to create.
+   *
+   * @return json document.
+   */
+  @NotNull
+  static String document(final int bytes) {
+    final var builder = new StringBuilder(bytes + 256).append('{');
+    for (var index = 0; builder.length() < bytes; index++) {
+      if (index > 0) {
+        builder.append(',');
+      }
+      builder.append("\"item-").append(index).append("\":{\"name\":\"Item \\\"").append(index)
+        .append("\\\"\\n\",\"price\":").append(index * 0.25d)
+        .append(",\"id\":").append(9_000_000_000L + index)
+        .append(",\"amount\":").append(index % 64)
+        .append(",\"enabled\":").append(index % 2 == 0)
+        .append(",\"lore\":[\"first line\",\"second line\",null]}");
+    }
+    return builder.append('}').toString();
+  }
+
+  /**
+   * a class that represents an empty config class.
+   */
+  public static final class Document extends TransformedObject {
+
+  }
+}
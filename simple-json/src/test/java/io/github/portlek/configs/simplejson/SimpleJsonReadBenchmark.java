@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.simplejson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.parser.JSONParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a class that benchmarks parsing the same json documents with {@link SimpleJsonReader}, json-simple, gson and
+ * jackson.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimpleJsonReadBenchmark {
+
+  /**
+   * the document size in kilobytes.
+   */
+  @Param({"4", "256", "4096"})
+  public int kilobytes;
+
+  /**
+   * the document.
+   */
+  private String document;
+
+  /**
+   * the gson.
+   */
+  private Gson gson;
+
+  /**
+   * the object mapper.
+   */
+  private ObjectMapper mapper;
+
+  /**
+   * the reader.
+   */
+  private SimpleJsonReader reader;
+
+  /**
+   * parses the document with gson into a map.
+   *
+   * @return parsed map.
+   */
+  @Benchmark
+  public Object gson() {
+    return this.gson.fromJson(new StringReader(this.document), LinkedHashMap.class);
+  }
+
+  /**
+   * parses the document with jackson into a map.
+   *
+   * @return parsed map.
+   *
+   * @throws Exception if something goes wrong when parsing.
+   */
+  @Benchmark
+  public Object jackson() throws Exception {
+    return this.mapper.readValue(new StringReader(this.document), Map.class);
+  }
+
+  /**
+   * parses the document with json-simple, the parser is not reusable across threads so each call creates one.
+   *
+   * @return parsed object.
+   *
+   * @throws Exception if something goes wrong when parsing.
+   */
+  @Benchmark
+  public Object jsonSimple() throws Exception {
+    return new JSONParser().parse(this.document);
+  }
+
+  /**
+   * creates the document and the parsers.
+   */
+  @Setup
+  public void setup() {
+    this.document = SimpleJsonDocuments.document(this.kilobytes * 1024);
+    this.gson = new Gson();
+    this.mapper = new ObjectMapper();
+    this.reader = new SimpleJsonReader();
+  }
+
+  /**
+   * parses the document with the reusable {@link SimpleJsonReader}.
+   *
+   * @return parsed object.
+   *
+   * @throws Exception if something goes wrong when parsing.
+   */
+  @Benchmark
+  public Object simpleJsonReader() throws Exception {
+    return this.reader.read(new StringReader(this.document));
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.simplejson;
+
+import io.github.portlek.configs.core.ReadBuffers;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class SimpleJsonReaderTest {
+
+  private static Object read(final String json) throws IOException {
+    return new SimpleJsonReader().read(new StringReader(json));
+  }
+
+  @Test
+  void readsBigNumbers() throws IOException {
+    final var value = (List<?>) SimpleJsonReaderTest.read(
+      "[1, -9223372036854775808, 9223372036854775807, 9223372036854775808, 1.5e3, -0.25]");
+    Assertions.assertEquals(1L, value.get(0));
+    Assertions.assertEquals(Long.MIN_VALUE, value.get(1));
+    Assertions.assertEquals(Long.MAX_VALUE, value.get(2));
+    Assertions.assertEquals(new BigInteger("9223372036854775808"), value.get(3));
+    Assertions.assertEquals(1500.0d, value.get(4));
+    Assertions.assertEquals(-0.25d, value.get(5));
+  }
+
+  @Test
+  void readsEscapes() throws IOException {
+    Assertions.assertEquals("\"\\/\b\f\n\r\t\u00e9\u20ac",
+      SimpleJsonReaderTest.read("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\u20AC\""));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("\"\\x\""));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("\"\\u12g4\""));
+  }
+
+  @Test
+  void readsEmptyInput() throws IOException {
+    Assertions.assertNull(SimpleJsonReaderTest.read(""));
+    Assertions.assertNull(SimpleJsonReaderTest.read(" \n\t\r "));
+    Assertions.assertNull(new SimpleJsonReader().readObject(new StringReader("")));
+  }
+
+  @Test
+  void readsInOrder() throws IOException {
+    final var value = new SimpleJsonReader().readObject(new StringReader("{\"b\":{\"d\":null,\"c\":true},\"a\":[]}"));
+    Assertions.assertNotNull(value);
+    Assertions.assertEquals(List.of("b", "a"), List.copyOf(value.keySet()));
+    Assertions.assertEquals(List.of("d", "c"), List.copyOf(((Map<?, ?>) value.get("b")).keySet()));
+    Assertions.assertEquals(List.of(), value.get("a"));
+  }
+
+  @Test
+  void readsStringsAcrossBufferBoundaries() throws IOException {
+    final var length = ReadBuffers.chars().length;
+    for (final var size : new int[]{length - 2, length - 1, length, length + 1, length * 2 + 3}) {
+      final var chars = new char[size];
+      Arrays.fill(chars, 'a');
+      chars[size / 2] = '\\';
+      chars[size / 2 + 1] = 'n';
+      final var content = new String(chars);
+      final var expected = content.replace("\\n", "\n");
+      Assertions.assertEquals(expected, SimpleJsonReaderTest.read('"' + content + '"'));
+      Assertions.assertEquals(expected, new SimpleJsonReader().read(new TrickleReader('"' + content + '"')));
+    }
+    Assertions.assertEquals(Map.of("key", "\u20ac"),
+      new SimpleJsonReader().read(new TrickleReader("{\"key\" : \"\\u20ac\"}")));
+  }
+
+  @Test
+  void rejectsInvalidDocuments() {
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("{\"a\":1} garbage"));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("{\"a\":1}}"));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("[1, 2"));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("\"unterminated"));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("{a:1}"));
+    Assertions.assertThrows(IOException.class, () -> SimpleJsonReaderTest.read("[tru]"));
+    Assertions.assertThrows(IOException.class, () -> new SimpleJsonReader().readObject(new StringReader("[1]")));
+  }
+
+  @Test
+  void reusesTheInstance() throws IOException {
+    final var reader = new SimpleJsonReader();
+    Assertions.assertThrows(IOException.class, () -> reader.read(new StringReader("{\"a\":")));
+    Assertions.assertEquals(Map.of("a", 1L), reader.read(new StringReader("{\"a\":1}")));
+    Assertions.assertEquals(Map.of("b", "c"), reader.read(new StringReader("{\"b\":\"c\"}")));
+  }
+
+  /**
+   * a class that represents readers which return one char for each read.
+   */
+  private static final class TrickleReader extends Reader {
+
+    private final Reader delegate;
+
+    private TrickleReader(@NotNull final String content) {
+      this.delegate = new StringReader(content);
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.delegate.close();
+    }
+
+    @Override
+    public int read(@NotNull final char[] buffer, final int offset, final int length) throws IOException {
+      return this.delegate.read(buffer, offset, Math.min(length, 1));
+    }
+  }
+}
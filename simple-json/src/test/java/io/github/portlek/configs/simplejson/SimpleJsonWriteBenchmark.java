@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.simplejson;
+
+import io.github.portlek.transformer.declarations.TransformedObjectDeclaration;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks writing large simple json documents, streamed and through json-simple's string.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimpleJsonWriteBenchmark {
+
+  /**
+   * the document size in megabytes.
+   */
+  @Param({"1", "4", "16"})
+  public int megabytes;
+
+  /**
+   * the pretty printing.
+   */
+  @Param({"false", "true"})
+  public boolean prettyPrinting;
+
+  /**
+   * the declaration.
+   */
+  private TransformedObjectDeclaration declaration;
+
+  /**
+   * the map.
+   */
+  private Map<String, Object> map;
+
+  /**
+   * the resolver.
+   */
+  private SimpleJson resolver;
+
+  /**
+   * renders the map through json-simple's string and copies it, as the writes did before streaming.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void jsonSimpleString(final Blackhole blackhole) {
+    final var bytes = new JSONObject(this.map).toJSONString().getBytes(StandardCharsets.UTF_8);
+    blackhole.consume(bytes.length);
+  }
+
+  /**
+   * loads the document.
+   *
+   * @throws Exception if something goes wrong when loading.
+   */
+  @Setup
+  public void setup() throws Exception {
+    final var document = SimpleJsonDocuments.document(this.megabytes * 1024 * 1024);
+    this.declaration = TransformedObjectDeclaration.of(SimpleJsonDocuments.Document.class);
+    this.map = new SimpleJsonReader().readObject(new StringReader(document));
+    this.resolver = new SimpleJson(new SimpleJsonReader(), this.prettyPrinting);
+    this.resolver.load(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), this.declaration);
+  }
+
+  /**
+   * streams the map into the output.
+   *
+   * @throws Exception if something goes wrong when writing.
+   */
+  @Benchmark
+  public void streamed() throws Exception {
+    this.resolver.write(OutputStream.nullOutputStream(), this.declaration);
+  }
+}